@@ -1,4 +1,4 @@
-const API_BASE = 'http://localhost:8080/api';
+export const API_BASE = 'http://localhost:8080/api';
 
 async function request<T>(url: string, options?: RequestInit): Promise<T> {
   const res = await fetch(`${API_BASE}${url}`, {
@@ -35,12 +35,19 @@ export interface Employee {
   department: string | null;
 }
 
+// Slim employee reference embedded in device and app access rows
+export interface EmployeeRef {
+  id: number;
+  fullName: string;
+  email: string;
+}
+
 export interface Device {
   id: number;
   serialNumber: string;
   type: 'LAPTOP' | 'MOBILE' | 'TABLET';
   isLocked: boolean;
-  employee: Employee;
+  employee: EmployeeRef;
 }
 
 export interface AppAccess {
@@ -48,14 +55,81 @@ export interface AppAccess {
   appName: string;
   status: string;
   role: string;
-  employee: Employee;
+  employee: EmployeeRef;
+}
+
+// Employee, devices and apps in one response (GET /employees/{id}/summary)
+export interface EmployeeSummary {
+  id: number;
+  fullName: string;
+  email: string;
+  status: 'ACTIVE' | 'TERMINATED';
+  department: string | null;
+  devices: Pick<Device, 'id' | 'serialNumber' | 'type' | 'isLocked'>[];
+  apps: Pick<AppAccess, 'id' | 'appName' | 'role' | 'status'>[];
+}
+
+// One keyset page (GET /...?after={id}&limit={n})
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor: number | null;
+}
+
+// Optional server-side filters; unset fields are left out of the query string
+export interface EmployeeFilter {
+  status?: Employee['status'];
+  department?: string;
+  name?: string;
+}
+
+export interface DeviceFilter {
+  type?: Device['type'];
+  isLocked?: boolean;
+}
+
+export interface AppAccessFilter {
+  appName?: string;
+  status?: string;
+  role?: string;
+}
+
+// Active licenses per application (GET /app-access/active-by-app)
+export interface AppLicenseCount {
+  appName: string;
+  activeCount: number;
+}
+
+function pageQuery(filter: object, limit: number, after: number): string {
+  const params = new URLSearchParams({ after: String(after), limit: String(limit) });
+  for (const [key, value] of Object.entries(filter)) {
+    if (value !== undefined && value !== '') params.set(key, String(value));
+  }
+  return params.toString();
+}
+
+// Org-wide counts from the server-side read model (GET /stats)
+export interface DashboardStats {
+  totalEmployees: number;
+  activeEmployees: number;
+  terminatedEmployees: number;
+  onboardingEmployees: number;
+  totalDevices: number;
+  lockedDevices: number;
+  totalAppAccesses: number;
+  revokedAppAccesses: number;
+  reconciledAt: string | null;
 }
 
 // ── Employee API ───────────────────────────────────────────────
 
 export const employeeApi = {
   getAll: () => request<Employee[]>('/employees'),
+  getPage: (limit: number, after = 0) =>
+    request<CursorPage<Employee>>(`/employees?after=${after}&limit=${limit}`),
+  search: (filter: EmployeeFilter, limit: number, after = 0) =>
+    request<CursorPage<Employee>>(`/employees?${pageQuery(filter, limit, after)}`),
   getById: (id: number) => request<Employee>(`/employees/${id}`),
+  getSummary: (id: number) => request<EmployeeSummary>(`/employees/${id}/summary`),
   create: (data: { fullName: string; email: string; department?: string }) =>
     request<Employee>('/employees', { method: 'POST', body: JSON.stringify(data) }),
   terminate: (id: number) =>
@@ -66,6 +140,8 @@ export const employeeApi = {
 
 export const deviceApi = {
   getAll: () => request<Device[]>('/devices'),
+  search: (filter: DeviceFilter, limit: number, after = 0) =>
+    request<CursorPage<Device>>(`/devices?${pageQuery(filter, limit, after)}`),
   getByEmployee: (employeeId: number) => request<Device[]>(`/devices/employee/${employeeId}`),
   assign: (data: { employeeId: number; deviceType: string; serialNumber: string }) =>
     request<Device>('/devices', { method: 'POST', body: JSON.stringify(data) }),
@@ -75,7 +151,16 @@ export const deviceApi = {
 
 export const appAccessApi = {
   getAll: () => request<AppAccess[]>('/app-access'),
+  search: (filter: AppAccessFilter, limit: number, after = 0) =>
+    request<CursorPage<AppAccess>>(`/app-access?${pageQuery(filter, limit, after)}`),
+  getActiveByApp: () => request<AppLicenseCount[]>('/app-access/active-by-app'),
   getByEmployee: (employeeId: number) => request<AppAccess[]>(`/app-access/employee/${employeeId}`),
   assign: (data: { employeeId: number; appName: string; role: string }) =>
     request<AppAccess>('/app-access', { method: 'POST', body: JSON.stringify(data) }),
 };
+
+// ── Stats API ──────────────────────────────────────────────────
+
+export const statsApi = {
+  get: () => request<DashboardStats>('/stats'),
+};
@@ -0,0 +1,20 @@
+// Table footer for keyset-paged lists: fetches the page after the last row shown
+export default function LoadMoreRow({ colSpan, shown, isFetching, onLoadMore }: {
+  colSpan: number;
+  shown: number;
+  isFetching: boolean;
+  onLoadMore: () => void;
+}) {
+  return (
+    <tr>
+      <td colSpan={colSpan} style={{ textAlign: 'center', padding: '16px' }}>
+        <span style={{ color: 'var(--color-text-secondary)', fontSize: '13px', marginRight: '12px' }}>
+          Showing {shown}
+        </span>
+        <button className="btn btn-outline btn-sm" onClick={onLoadMore} disabled={isFetching}>
+          {isFetching ? 'Loading...' : 'Load more'}
+        </button>
+      </td>
+    </tr>
+  );
+}
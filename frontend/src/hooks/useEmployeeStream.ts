@@ -0,0 +1,36 @@
+import { useEffect } from 'react';
+import { useQueryClient } from '@tanstack/react-query';
+import { API_BASE } from '../api/client';
+
+// Query keys that show a single employee's devices, apps, and status
+const employeeQueryKeys = (id: number) => [
+  ['employee-summary', id],
+  ['my-devices', id],
+  ['my-apps', id],
+];
+
+/**
+ * Subscribes to the server's SSE stream for one employee and refetches the
+ * employee's queries whenever the server reports a change, instead of polling.
+ * EventSource reconnects on its own after network errors or server timeouts.
+ */
+export function useEmployeeStream(employeeId: number | undefined) {
+  const queryClient = useQueryClient();
+
+  useEffect(() => {
+    if (employeeId === undefined) return;
+
+    const refresh = () => {
+      employeeQueryKeys(employeeId).forEach((queryKey) =>
+        queryClient.invalidateQueries({ queryKey }),
+      );
+    };
+
+    const source = new EventSource(`${API_BASE}/employees/${employeeId}/events`);
+    source.addEventListener('employee-updated', refresh);
+    // Covers anything that changed while the stream was (re)connecting
+    source.addEventListener('open', refresh);
+
+    return () => source.close();
+  }, [employeeId, queryClient]);
+}
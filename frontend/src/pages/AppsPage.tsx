@@ -1,31 +1,42 @@
-import { useQuery } from '@tanstack/react-query';
+import { useState } from 'react';
+import { useQuery, useInfiniteQuery } from '@tanstack/react-query';
 import { Link } from 'react-router-dom';
-import { AppWindow } from 'lucide-react';
-import { appAccessApi } from '../api/client';
+import { AppWindow, Search } from 'lucide-react';
+import { appAccessApi, statsApi } from '../api/client';
+import LoadMoreRow from '../components/LoadMoreRow';
+
+const PAGE_SIZE = 100;
 
 export default function AppsPage() {
-  const { data: apps = [], isLoading } = useQuery({
-    queryKey: ['apps'],
-    queryFn: appAccessApi.getAll,
-  });
+  const [search, setSearch] = useState('');
+  const [status, setStatus] = useState('');
 
-  const active = apps.filter((a) => a.status === 'ACTIVE').length;
-  const revoked = apps.filter((a) => a.status === 'REVOKED').length;
+  // Counts and the per-app breakdown are aggregated server-side; the table is filtered and paged by keyset
+  const { data: stats } = useQuery({ queryKey: ['stats'], queryFn: statsApi.get });
+  const { data: licenses = [] } = useQuery({
+    queryKey: ['apps', 'active-by-app'],
+    queryFn: appAccessApi.getActiveByApp,
+  });
+  const filter = { appName: search.trim() || undefined, status: status || undefined };
+  const { data, isLoading, hasNextPage, fetchNextPage, isFetchingNextPage } = useInfiniteQuery({
+    queryKey: ['apps', 'search', filter],
+    queryFn: ({ pageParam }) => appAccessApi.search(filter, PAGE_SIZE, pageParam),
+    initialPageParam: 0,
+    getNextPageParam: (last) => last.nextCursor ?? undefined,
+    placeholderData: (previous) => previous,
+  });
 
-  // Group by app name
-  const grouped = apps.reduce<Record<string, number>>((acc, a) => {
-    if (a.status === 'ACTIVE') {
-      acc[a.appName] = (acc[a.appName] ?? 0) + 1;
-    }
-    return acc;
-  }, {});
+  const apps = data?.pages.flatMap((page) => page.items) ?? [];
+  const total = stats?.totalAppAccesses ?? 0;
+  const revoked = stats?.revokedAppAccesses ?? 0;
+  const active = total - revoked;
 
   return (
     <>
       <div className="page-header">
         <div>
           <h1 className="page-title">App Access</h1>
-          <p className="page-subtitle">{apps.length} total access records</p>
+          <p className="page-subtitle">{total} total access records</p>
         </div>
       </div>
       <div className="page-body">
@@ -33,7 +44,7 @@ export default function AppsPage() {
           <div className="stat-card">
             <div className="stat-icon stat-icon-amber"><AppWindow size={20} /></div>
             <div className="stat-label">Total Records</div>
-            <div className="stat-value">{apps.length}</div>
+            <div className="stat-value">{total}</div>
           </div>
           <div className="stat-card">
             <div className="stat-icon stat-icon-green"><AppWindow size={20} /></div>
@@ -48,27 +59,52 @@ export default function AppsPage() {
         </div>
 
         {/* Active apps breakdown */}
-        {Object.keys(grouped).length > 0 && (
+        {licenses.length > 0 && (
           <div className="card" style={{ marginBottom: '24px' }}>
             <div className="card-header">
               <span className="card-title">Active Licenses by App</span>
             </div>
             <div style={{ padding: '16px 20px', display: 'flex', flexWrap: 'wrap', gap: '8px' }}>
-              {Object.entries(grouped).sort((a, b) => b[1] - a[1]).map(([name, count]) => (
-                <span key={name} className="badge badge-active" style={{ fontSize: '13px', padding: '6px 14px' }}>
-                  {name}: {count}
+              {licenses.map(({ appName, activeCount }) => (
+                <span key={appName} className="badge badge-active" style={{ fontSize: '13px', padding: '6px 14px' }}>
+                  {appName}: {activeCount}
                 </span>
               ))}
             </div>
           </div>
         )}
 
+        <div style={{ marginBottom: '16px', display: 'flex', gap: '12px' }}>
+          <div style={{ position: 'relative', flex: 1, maxWidth: '360px' }}>
+            <Search size={16} style={{ position: 'absolute', left: '12px', top: '50%', transform: 'translateY(-50%)', color: 'var(--color-text-secondary)' }} />
+            <input
+              className="form-input"
+              placeholder="Search by application..."
+              value={search}
+              onChange={(e) => setSearch(e.target.value)}
+              style={{ paddingLeft: '36px' }}
+            />
+          </div>
+          <select
+            className="form-select"
+            value={status}
+            onChange={(e) => setStatus(e.target.value)}
+            style={{ maxWidth: '180px' }}
+          >
+            <option value="">All statuses</option>
+            <option value="ACTIVE">Active</option>
+            <option value="REVOKED">Revoked</option>
+          </select>
+        </div>
+
         <div className="card">
           {isLoading ? (
             <div className="loading-spinner"><div className="spinner" /></div>
           ) : apps.length === 0 ? (
             <div className="empty-state">
-              <div className="empty-state-text">No app access records yet. Grant access from an employee's profile.</div>
+              <div className="empty-state-text">
+                {search || status ? 'No access records match these filters' : "No app access records yet. Grant access from an employee's profile."}
+              </div>
             </div>
           ) : (
             <table>
@@ -95,6 +131,9 @@ export default function AppsPage() {
                     </td>
                   </tr>
                 ))}
+                {hasNextPage && (
+                  <LoadMoreRow colSpan={4} shown={apps.length} isFetching={isFetchingNextPage} onLoadMore={() => fetchNextPage()} />
+                )}
               </tbody>
             </table>
           )}
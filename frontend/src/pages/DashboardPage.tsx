@@ -1,17 +1,21 @@
 import { useQuery } from '@tanstack/react-query';
 import { Link } from 'react-router-dom';
 import { Users, Laptop, AppWindow, ShieldAlert } from 'lucide-react';
-import { employeeApi, deviceApi, appAccessApi } from '../api/client';
+import { employeeApi, statsApi } from '../api/client';
 
 export default function DashboardPage() {
-  const { data: employees = [] } = useQuery({ queryKey: ['employees'], queryFn: employeeApi.getAll });
-  const { data: devices = [] } = useQuery({ queryKey: ['devices'], queryFn: deviceApi.getAll });
-  const { data: apps = [] } = useQuery({ queryKey: ['apps'], queryFn: appAccessApi.getAll });
+  // Counts come precomputed from the server; the call is O(1), so a short poll is cheap
+  // and picks up termination effects as the listener applies them
+  const { data: stats } = useQuery({ queryKey: ['stats'], queryFn: statsApi.get, refetchInterval: 5000 });
+  const { data: recent } = useQuery({ queryKey: ['employees', 'recent'], queryFn: () => employeeApi.getPage(5) });
+  const employees = recent?.items ?? [];
 
-  const active = employees.filter((e) => e.status === 'ACTIVE').length;
-  const terminated = employees.filter((e) => e.status === 'TERMINATED').length;
-  const locked = devices.filter((d) => d.isLocked).length;
-  const revoked = apps.filter((a) => a.status === 'REVOKED').length;
+  const active = stats?.activeEmployees ?? 0;
+  const terminated = stats?.terminatedEmployees ?? 0;
+  const totalDevices = stats?.totalDevices ?? 0;
+  const totalApps = stats?.totalAppAccesses ?? 0;
+  const locked = stats?.lockedDevices ?? 0;
+  const revoked = stats?.revokedAppAccesses ?? 0;
 
   return (
     <>
@@ -39,14 +43,14 @@ export default function DashboardPage() {
             <div className="stat-card">
               <div className="stat-icon stat-icon-blue"><Laptop size={20} /></div>
               <div className="stat-label">Total Devices</div>
-              <div className="stat-value">{devices.length}</div>
+              <div className="stat-value">{totalDevices}</div>
             </div>
           </Link>
           <Link to="/apps" style={{ textDecoration: 'none' }}>
             <div className="stat-card">
               <div className="stat-icon stat-icon-amber"><AppWindow size={20} /></div>
               <div className="stat-label">App Accesses</div>
-              <div className="stat-value">{apps.length}</div>
+              <div className="stat-value">{totalApps}</div>
             </div>
           </Link>
         </div>
@@ -63,7 +67,7 @@ export default function DashboardPage() {
                 <tr><th>Name</th><th>Status</th></tr>
               </thead>
               <tbody>
-                {employees.slice(0, 5).map((e) => (
+                {employees.map((e) => (
                   <tr key={e.id}>
                     <td><Link to={`/people/${e.id}`} className="table-link">{e.fullName}</Link></td>
                     <td>
@@ -96,11 +100,11 @@ export default function DashboardPage() {
               </div>
               <div style={{ display: 'flex', justifyContent: 'space-between', alignItems: 'center' }}>
                 <span style={{ fontSize: '14px', color: 'var(--color-text-secondary)' }}>Active Devices</span>
-                <span className="badge badge-active"><span className="badge-dot" />{devices.length - locked}</span>
+                <span className="badge badge-active"><span className="badge-dot" />{totalDevices - locked}</span>
               </div>
               <div style={{ display: 'flex', justifyContent: 'space-between', alignItems: 'center' }}>
                 <span style={{ fontSize: '14px', color: 'var(--color-text-secondary)' }}>Active App Accesses</span>
-                <span className="badge badge-active"><span className="badge-dot" />{apps.length - revoked}</span>
+                <span className="badge badge-active"><span className="badge-dot" />{totalApps - revoked}</span>
               </div>
             </div>
           </div>
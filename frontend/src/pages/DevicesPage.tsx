@@ -1,7 +1,10 @@
-import { useQuery } from '@tanstack/react-query';
+import { useState } from 'react';
+import { useQuery, useInfiniteQuery } from '@tanstack/react-query';
 import { Link } from 'react-router-dom';
 import { Laptop, Smartphone, Tablet } from 'lucide-react';
-import { deviceApi } from '../api/client';
+import { deviceApi, statsApi } from '../api/client';
+import type { Device } from '../api/client';
+import LoadMoreRow from '../components/LoadMoreRow';
 
 const typeIcons: Record<string, typeof Laptop> = {
   LAPTOP: Laptop,
@@ -9,21 +12,37 @@ const typeIcons: Record<string, typeof Laptop> = {
   TABLET: Tablet,
 };
 
+const PAGE_SIZE = 100;
+
 export default function DevicesPage() {
-  const { data: devices = [], isLoading } = useQuery({
-    queryKey: ['devices'],
-    queryFn: deviceApi.getAll,
+  const [type, setType] = useState<Device['type'] | ''>('');
+  const [lockState, setLockState] = useState<'' | 'active' | 'locked'>('');
+
+  // Counts come from the stats read model; the table is filtered server-side and paged by keyset
+  const { data: stats } = useQuery({ queryKey: ['stats'], queryFn: statsApi.get });
+  const filter = {
+    type: type || undefined,
+    isLocked: lockState === '' ? undefined : lockState === 'locked',
+  };
+  const { data, isLoading, hasNextPage, fetchNextPage, isFetchingNextPage } = useInfiniteQuery({
+    queryKey: ['devices', 'search', filter],
+    queryFn: ({ pageParam }) => deviceApi.search(filter, PAGE_SIZE, pageParam),
+    initialPageParam: 0,
+    getNextPageParam: (last) => last.nextCursor ?? undefined,
+    placeholderData: (previous) => previous,
   });
 
-  const active = devices.filter((d) => !d.isLocked).length;
-  const locked = devices.filter((d) => d.isLocked).length;
+  const devices = data?.pages.flatMap((page) => page.items) ?? [];
+  const total = stats?.totalDevices ?? 0;
+  const locked = stats?.lockedDevices ?? 0;
+  const active = total - locked;
 
   return (
     <>
       <div className="page-header">
         <div>
           <h1 className="page-title">Devices</h1>
-          <p className="page-subtitle">{devices.length} devices managed</p>
+          <p className="page-subtitle">{total} devices managed</p>
         </div>
       </div>
       <div className="page-body">
@@ -31,7 +50,7 @@ export default function DevicesPage() {
           <div className="stat-card">
             <div className="stat-icon stat-icon-blue"><Laptop size={20} /></div>
             <div className="stat-label">Total Devices</div>
-            <div className="stat-value">{devices.length}</div>
+            <div className="stat-value">{total}</div>
           </div>
           <div className="stat-card">
             <div className="stat-icon stat-icon-green"><Laptop size={20} /></div>
@@ -45,12 +64,38 @@ export default function DevicesPage() {
           </div>
         </div>
 
+        <div style={{ marginBottom: '16px', display: 'flex', gap: '12px' }}>
+          <select
+            className="form-select"
+            value={type}
+            onChange={(e) => setType(e.target.value as Device['type'] | '')}
+            style={{ maxWidth: '180px' }}
+          >
+            <option value="">All types</option>
+            <option value="LAPTOP">Laptop</option>
+            <option value="MOBILE">Mobile</option>
+            <option value="TABLET">Tablet</option>
+          </select>
+          <select
+            className="form-select"
+            value={lockState}
+            onChange={(e) => setLockState(e.target.value as '' | 'active' | 'locked')}
+            style={{ maxWidth: '180px' }}
+          >
+            <option value="">All statuses</option>
+            <option value="active">Active</option>
+            <option value="locked">Locked</option>
+          </select>
+        </div>
+
         <div className="card">
           {isLoading ? (
             <div className="loading-spinner"><div className="spinner" /></div>
           ) : devices.length === 0 ? (
             <div className="empty-state">
-              <div className="empty-state-text">No devices assigned yet. Assign devices from an employee's profile.</div>
+              <div className="empty-state-text">
+                {type || lockState ? 'No devices match these filters' : "No devices assigned yet. Assign devices from an employee's profile."}
+              </div>
             </div>
           ) : (
             <table>
@@ -84,6 +129,9 @@ export default function DevicesPage() {
                     </tr>
                   );
                 })}
+                {hasNextPage && (
+                  <LoadMoreRow colSpan={4} shown={devices.length} isFetching={isFetchingNextPage} onLoadMore={() => fetchNextPage()} />
+                )}
               </tbody>
             </table>
           )}
@@ -1,34 +1,26 @@
 import { useQuery } from '@tanstack/react-query';
 import { useRole } from '../context/RoleContext';
-import { employeeApi, deviceApi, appAccessApi } from '../api/client';
+import { employeeApi } from '../api/client';
+import { useEmployeeStream } from '../hooks/useEmployeeStream';
 import { AppWindow, Laptop, ShieldAlert, ShieldCheck } from 'lucide-react';
 
 export default function EmployeeDashboardPage() {
   const { selectedEmployee } = useRole();
 
+  // One request per refresh instead of three; unchanged refreshes are answered with 304 via the ETag
   const { data: employee } = useQuery({
-    queryKey: ['employee', selectedEmployee?.id],
-    queryFn: () => employeeApi.getById(selectedEmployee!.id),
+    queryKey: ['employee-summary', selectedEmployee?.id],
+    queryFn: () => employeeApi.getSummary(selectedEmployee!.id),
     enabled: !!selectedEmployee,
-    refetchInterval: 3000,
-  });
-
-  const { data: devices = [] } = useQuery({
-    queryKey: ['my-devices', selectedEmployee?.id],
-    queryFn: () => deviceApi.getByEmployee(selectedEmployee!.id),
-    enabled: !!selectedEmployee,
-    refetchInterval: 3000,
-  });
-
-  const { data: apps = [] } = useQuery({
-    queryKey: ['my-apps', selectedEmployee?.id],
-    queryFn: () => appAccessApi.getByEmployee(selectedEmployee!.id),
-    enabled: !!selectedEmployee,
-    refetchInterval: 3000,
+    // Every change is pushed over SSE; the slow poll is only a safety net
+    refetchInterval: 60_000,
   });
+  useEmployeeStream(selectedEmployee?.id);
 
   if (!selectedEmployee) return null;
 
+  const devices = employee?.devices ?? [];
+  const apps = employee?.apps ?? [];
   const isTerminated = employee?.status === 'TERMINATED';
   const activeApps = apps.filter((a) => a.status === 'ACTIVE').length;
   const revokedApps = apps.filter((a) => a.status === 'REVOKED').length;
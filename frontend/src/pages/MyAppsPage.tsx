@@ -2,6 +2,7 @@ import { useState } from 'react';
 import { useQuery } from '@tanstack/react-query';
 import { useRole } from '../context/RoleContext';
 import { appAccessApi } from '../api/client';
+import { useEmployeeStream } from '../hooks/useEmployeeStream';
 import { AppWindow, Eye, EyeOff, ShieldOff } from 'lucide-react';
 
 // Generate a deterministic mock password from employeeId + appName
@@ -30,8 +31,9 @@ export default function MyAppsPage() {
     queryKey: ['my-apps', selectedEmployee?.id],
     queryFn: () => appAccessApi.getByEmployee(selectedEmployee!.id),
     enabled: !!selectedEmployee,
-    refetchInterval: 3000,
+    refetchInterval: 60_000,
   });
+  useEmployeeStream(selectedEmployee?.id);
 
   if (!selectedEmployee) return null;
 
@@ -1,6 +1,7 @@
 import { useQuery } from '@tanstack/react-query';
 import { useRole } from '../context/RoleContext';
 import { deviceApi } from '../api/client';
+import { useEmployeeStream } from '../hooks/useEmployeeStream';
 import { Laptop, Smartphone, Tablet, Lock } from 'lucide-react';
 
 const typeIcons: Record<string, typeof Laptop> = {
@@ -16,8 +17,9 @@ export default function MyDevicesPage() {
     queryKey: ['my-devices', selectedEmployee?.id],
     queryFn: () => deviceApi.getByEmployee(selectedEmployee!.id),
     enabled: !!selectedEmployee,
-    refetchInterval: 3000,
+    refetchInterval: 60_000,
   });
+  useEmployeeStream(selectedEmployee?.id);
 
   if (!selectedEmployee) return null;
 
@@ -1,34 +1,40 @@
 import { useState } from 'react';
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
+import { useQuery, useInfiniteQuery, useMutation, useQueryClient } from '@tanstack/react-query';
 import { Link } from 'react-router-dom';
 import { Plus, Search } from 'lucide-react';
-import { employeeApi, ApiError } from '../api/client';
+import { employeeApi, statsApi, ApiError } from '../api/client';
+import type { Employee } from '../api/client';
 import { useToast } from '../hooks/useToast';
+import LoadMoreRow from '../components/LoadMoreRow';
+
+const PAGE_SIZE = 100;
 
 export default function PeoplePage() {
   const queryClient = useQueryClient();
   const { toast } = useToast();
   const [showCreate, setShowCreate] = useState(false);
   const [search, setSearch] = useState('');
+  const [status, setStatus] = useState<Employee['status'] | ''>('');
 
-  const { data: employees = [], isLoading } = useQuery({
-    queryKey: ['employees'],
-    queryFn: employeeApi.getAll,
+  // Filtering happens server-side (name prefix + status); "Load more" fetches the next keyset page
+  const filter = { name: search.trim() || undefined, status: status || undefined };
+  const { data, isLoading, hasNextPage, fetchNextPage, isFetchingNextPage } = useInfiniteQuery({
+    queryKey: ['employees', 'search', filter],
+    queryFn: ({ pageParam }) => employeeApi.search(filter, PAGE_SIZE, pageParam),
+    initialPageParam: 0,
+    getNextPageParam: (last) => last.nextCursor ?? undefined,
+    placeholderData: (previous) => previous,
   });
+  const { data: stats } = useQuery({ queryKey: ['stats'], queryFn: statsApi.get });
 
-  const filtered = employees.filter(
-    (e) =>
-      e.fullName.toLowerCase().includes(search.toLowerCase()) ||
-      e.email.toLowerCase().includes(search.toLowerCase()) ||
-      (e.department ?? '').toLowerCase().includes(search.toLowerCase())
-  );
+  const filtered = data?.pages.flatMap((page) => page.items) ?? [];
 
   return (
     <>
       <div className="page-header">
         <div>
           <h1 className="page-title">People</h1>
-          <p className="page-subtitle">{employees.length} employees total</p>
+          <p className="page-subtitle">{stats?.totalEmployees ?? '—'} employees total</p>
         </div>
         <button className="btn btn-primary" onClick={() => setShowCreate(true)}>
           <Plus size={18} /> Add Employee
@@ -36,15 +42,27 @@ export default function PeoplePage() {
       </div>
       <div className="page-body">
         {/* Search */}
-        <div style={{ marginBottom: '16px', position: 'relative', maxWidth: '360px' }}>
-          <Search size={16} style={{ position: 'absolute', left: '12px', top: '50%', transform: 'translateY(-50%)', color: 'var(--color-text-secondary)' }} />
-          <input
-            className="form-input"
-            placeholder="Search by name, email, or department..."
-            value={search}
-            onChange={(e) => setSearch(e.target.value)}
-            style={{ paddingLeft: '36px' }}
-          />
+        <div style={{ marginBottom: '16px', display: 'flex', gap: '12px' }}>
+          <div style={{ position: 'relative', flex: 1, maxWidth: '360px' }}>
+            <Search size={16} style={{ position: 'absolute', left: '12px', top: '50%', transform: 'translateY(-50%)', color: 'var(--color-text-secondary)' }} />
+            <input
+              className="form-input"
+              placeholder="Search by name..."
+              value={search}
+              onChange={(e) => setSearch(e.target.value)}
+              style={{ paddingLeft: '36px' }}
+            />
+          </div>
+          <select
+            className="form-select"
+            value={status}
+            onChange={(e) => setStatus(e.target.value as Employee['status'] | '')}
+            style={{ maxWidth: '180px' }}
+          >
+            <option value="">All statuses</option>
+            <option value="ACTIVE">Active</option>
+            <option value="TERMINATED">Terminated</option>
+          </select>
         </div>
 
         <div className="card">
@@ -77,11 +95,14 @@ export default function PeoplePage() {
                   <tr>
                     <td colSpan={4} className="empty-state">
                       <div className="empty-state-text">
-                        {search ? 'No results found' : 'No employees yet. Click "Add Employee" to get started.'}
+                        {search || status ? 'No results found' : 'No employees yet. Click "Add Employee" to get started.'}
                       </div>
                     </td>
                   </tr>
                 )}
+                {hasNextPage && (
+                  <LoadMoreRow colSpan={4} shown={filtered.length} isFetching={isFetchingNextPage} onLoadMore={() => fetchNextPage()} />
+                )}
               </tbody>
             </table>
           )}
@@ -0,0 +1,66 @@
+package com.carsonchristensen.hive.benchmark.jmh;
+
+import com.carsonchristensen.hive.config.RabbitMQConfig;
+import com.carsonchristensen.hive.event.AmqpEventTransport;
+import com.carsonchristensen.hive.event.EmployeeEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EmployeeEvent through the converter RabbitMQConfig builds for hive.messaging.event-format,
+ * plus the routing key the AMQP transport derives for every send.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventCodecBenchmark {
+
+    @Param({"binary", "json"})
+    private String eventFormat;
+
+    private MessageConverter converter;
+    private EmployeeEvent event;
+    private Message encoded;
+
+    @Setup
+    public void setUp() {
+        converter = new RabbitMQConfig().messageConverter(eventFormat);
+        event = new EmployeeEvent(42L, "TERMINATED", 1001L, Instant.now(), null);
+        encoded = converter.toMessage(event, new MessageProperties());
+        // What the listener adapter does for a List<EmployeeEvent> parameter
+        encoded.getMessageProperties().setInferredArgumentType(EmployeeEvent.class);
+    }
+
+    @Benchmark
+    public Message encode() {
+        return converter.toMessage(event, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object decode() {
+        return converter.fromMessage(encoded);
+    }
+
+    @Benchmark
+    public String routingKey() {
+        return AmqpEventTransport.routingKeyFor(event);
+    }
+}
@@ -0,0 +1,93 @@
+package com.carsonchristensen.hive.benchmark.jmh;
+
+import com.carsonchristensen.hive.dto.AppAccessView;
+import com.carsonchristensen.hive.dto.DeviceView;
+import com.carsonchristensen.hive.model.AppAccess;
+import com.carsonchristensen.hive.model.Device;
+import com.carsonchristensen.hive.model.DeviceType;
+import com.carsonchristensen.hive.model.Employee;
+import com.carsonchristensen.hive.model.EmployeeStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON bodies of the device and app access list endpoints, written by an ObjectMapper
+ * configured the way Spring MVC configures its own:
+ * <ul>
+ *   <li>view: the DTOs the endpoints return, with the EmployeeRef embedded</li>
+ *   <li>flat: the same DTOs for unassigned rows (no employee)</li>
+ *   <li>entity: the JPA entities with the whole Employee embedded, as the endpoints used to return</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListSerializationBenchmark {
+
+    @Param({"view", "flat", "entity"})
+    private String shape;
+
+    @Param({"1000"})
+    private int rows;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private List<?> devices;
+    private List<?> appAccesses;
+
+    @Setup
+    public void setUp() {
+        List<Device> deviceEntities = new ArrayList<>(rows);
+        List<AppAccess> appEntities = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            // A handful of devices and grants per employee, as in a real fleet
+            Employee employee = "flat".equals(shape) ? null : Employee.builder()
+                    .id((long) i / 5)
+                    .email("employee" + i / 5 + "@hive.test")
+                    .fullName("Employee " + i / 5)
+                    .status(EmployeeStatus.ACTIVE)
+                    .department("Engineering")
+                    .build();
+            deviceEntities.add(Device.builder().id((long) i).serialNumber("SN-" + i).type(DeviceType.LAPTOP)
+                    .isLocked(false).employee(employee).build());
+            appEntities.add(AppAccess.builder().id((long) i).appName("app-" + i % 20).role("member")
+                    .employee(employee).build());
+        }
+
+        if ("entity".equals(shape)) {
+            devices = deviceEntities;
+            appAccesses = appEntities;
+        } else {
+            devices = deviceEntities.stream().map(DeviceView::from).toList();
+            appAccesses = appEntities.stream().map(AppAccessView::from).toList();
+        }
+    }
+
+    @Benchmark
+    public byte[] devices() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(devices);
+    }
+
+    @Benchmark
+    public byte[] appAccesses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(appAccesses);
+    }
+}
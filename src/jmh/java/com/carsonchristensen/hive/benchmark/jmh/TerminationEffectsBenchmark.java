@@ -0,0 +1,153 @@
+package com.carsonchristensen.hive.benchmark.jmh;
+
+import com.carsonchristensen.hive.HiveEngineApplication;
+import com.carsonchristensen.hive.model.AppAccess;
+import com.carsonchristensen.hive.model.Device;
+import com.carsonchristensen.hive.model.DeviceType;
+import com.carsonchristensen.hive.model.Employee;
+import com.carsonchristensen.hive.model.EmployeeStatus;
+import com.carsonchristensen.hive.repository.AppAccessRepository;
+import com.carsonchristensen.hive.repository.DeviceRepository;
+import com.carsonchristensen.hive.repository.EmployeeRepository;
+import com.carsonchristensen.hive.service.AppAccessService;
+import com.carsonchristensen.hive.service.DeviceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The termination side effects through the real services (transaction, bulk UPDATE, cache
+ * eviction, stats counters) on embedded H2: one call per employee, as a single termination
+ * does, against one call for the whole batch, as the batch listener does.
+ *
+ * Every invocation starts from unlocked devices and active grants; the reset runs outside
+ * the measured call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TerminationEffectsBenchmark {
+
+    @Param({"1", "50"})
+    private int employees;
+
+    @Param({"10", "100"})
+    private int rowsPerEmployee;
+
+    private ConfigurableApplicationContext context;
+    private DeviceService deviceService;
+    private AppAccessService appAccessService;
+    private JdbcTemplate jdbcTemplate;
+    private List<Long> employeeIds;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(HiveEngineApplication.class)
+                .web(WebApplicationType.NONE)
+                // Command-line arguments, so they win over application.properties
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:jmh;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.docker.compose.enabled=false",
+                        // No broker: nothing here publishes, and the listeners stay stopped
+                        "--hive.events.transport=in-process",
+                        "--hive.listener.autoscale.enabled=false",
+                        "--management.tracing.enabled=false",
+                        "--jdbc.datasource-proxy.enabled=false",
+                        // The services log every call; console output would dominate the measurement
+                        "--logging.level.com.carsonchristensen.hive=WARN");
+        deviceService = context.getBean(DeviceService.class);
+        appAccessService = context.getBean(AppAccessService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        seed(context.getBean(EmployeeRepository.class), context.getBean(DeviceRepository.class),
+                context.getBean(AppAccessRepository.class));
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        jdbcTemplate.update("update devices set is_locked = false");
+        jdbcTemplate.update("update app_accesses set status = 'ACTIVE'");
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public int lockDevicesPerEmployee() {
+        int locked = 0;
+        for (Long employeeId : employeeIds) {
+            locked += deviceService.lockDevicesForEmployee(employeeId);
+        }
+        return locked;
+    }
+
+    @Benchmark
+    public int lockDevicesBatch() {
+        return deviceService.lockDevicesForEmployees(employeeIds);
+    }
+
+    @Benchmark
+    public int revokeAppsPerEmployee() {
+        int revoked = 0;
+        for (Long employeeId : employeeIds) {
+            revoked += appAccessService.revokeAllForEmployee(employeeId);
+        }
+        return revoked;
+    }
+
+    @Benchmark
+    public int revokeAppsBatch() {
+        return appAccessService.revokeAllForEmployees(employeeIds);
+    }
+
+    private void seed(EmployeeRepository employeeRepository, DeviceRepository deviceRepository,
+                      AppAccessRepository appAccessRepository) {
+        employeeIds = new ArrayList<>(employees);
+        for (int e = 0; e < employees; e++) {
+            Employee employee = employeeRepository.save(Employee.builder()
+                    .email("jmh-" + e + "@hive.test")
+                    .fullName("Benchmark Employee " + e)
+                    .status(EmployeeStatus.TERMINATED)
+                    .department("Engineering")
+                    .build());
+            employeeIds.add(employee.getId());
+
+            List<Device> devices = new ArrayList<>(rowsPerEmployee);
+            List<AppAccess> grants = new ArrayList<>(rowsPerEmployee);
+            for (int r = 0; r < rowsPerEmployee; r++) {
+                devices.add(Device.builder().serialNumber("JMH-" + e + "-" + r).type(DeviceType.LAPTOP)
+                        .isLocked(false).employee(employee).build());
+                grants.add(AppAccess.builder().appName("app-" + r).role("member").employee(employee).build());
+            }
+            deviceRepository.saveAll(devices);
+            appAccessRepository.saveAll(grants);
+        }
+    }
+}
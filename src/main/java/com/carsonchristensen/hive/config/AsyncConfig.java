@@ -0,0 +1,17 @@
+package com.carsonchristensen.hive.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class AsyncConfig {
+
+    // Termination side effects are short, I/O-bound tasks: one virtual thread each
+    @Bean(destroyMethod = "close")
+    public ExecutorService terminationEffectExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("termination-effect-", 0).factory());
+    }
+}
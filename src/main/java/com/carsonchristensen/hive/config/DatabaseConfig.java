@@ -0,0 +1,53 @@
+package com.carsonchristensen.hive.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.boot.sql.init.DatabaseInitializationSettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+
+@Configuration
+@Slf4j
+public class DatabaseConfig {
+
+    // Partial and expression indexes plus sequence fix-ups that no other database accepts
+    private static final String POSTGRES_SCHEMA = "classpath:schema-postgresql.sql";
+
+    // Takes the place of Boot's spring.sql.init initializer, so it still runs after Hibernate's schema
+    // update (spring.jpa.defer-datasource-initialization), but only against Postgres: H2 contexts skip
+    // the script without any override
+    @Bean
+    public SqlDataSourceScriptDatabaseInitializer postgresSchemaInitializer(DataSource dataSource) {
+        DatabaseInitializationSettings settings = new DatabaseInitializationSettings();
+        settings.setSchemaLocations(List.of(POSTGRES_SCHEMA));
+        settings.setMode(DatabaseInitializationMode.ALWAYS);
+        return new SqlDataSourceScriptDatabaseInitializer(dataSource, settings) {
+            @Override
+            public boolean initializeDatabase() {
+                DatabaseDriver driver = databaseDriver(dataSource);
+                if (driver != DatabaseDriver.POSTGRESQL) {
+                    log.info("Skipping {} on {}, it is Postgres-only", POSTGRES_SCHEMA, driver);
+                    return false;
+                }
+                return super.initializeDatabase();
+            }
+        };
+    }
+
+    private static DatabaseDriver databaseDriver(DataSource dataSource) {
+        try {
+            return DatabaseDriver.fromProductName(
+                    JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName));
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Could not read the database product name", e);
+        }
+    }
+}
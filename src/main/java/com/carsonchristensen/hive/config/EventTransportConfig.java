@@ -0,0 +1,47 @@
+package com.carsonchristensen.hive.config;
+
+import com.carsonchristensen.hive.event.AmqpEventTransport;
+import com.carsonchristensen.hive.event.EventTracing;
+import com.carsonchristensen.hive.event.EventTransport;
+import com.carsonchristensen.hive.event.RingBufferEventTransport;
+import com.carsonchristensen.hive.listener.TerminationEventListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class EventTransportConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = EventTransport.PROPERTY, havingValue = EventTransport.AMQP, matchIfMissing = true)
+    public EventTransport amqpEventTransport(RabbitTemplate rabbitTemplate,
+                                             EventTracing eventTracing,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${hive.events.amqp.max-in-flight:5000}") int maxInFlight,
+                                             @Value("${hive.outbox.confirm-timeout-ms:5000}") long confirmTimeoutMs,
+                                             @Value("${hive.events.amqp.max-retries:3}") int maxRetries) {
+        return new AmqpEventTransport(rabbitTemplate, eventTracing, meterRegistry, maxInFlight, confirmTimeoutMs, maxRetries);
+    }
+
+    // No broker: events go straight from the outbox relay to the termination listener through a ring buffer
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = EventTransport.PROPERTY, havingValue = EventTransport.IN_PROCESS)
+    public RingBufferEventTransport inProcessEventTransport(
+            TerminationEventListener terminationEventListener,
+            MeterRegistry meterRegistry,
+            @Value("${hive.events.ring-buffer.capacity:8192}") int capacity,
+            @Value("${hive.events.ring-buffer.batch-size:100}") int batchSize,
+            @Value("${hive.events.ring-buffer.wait-strategy:blocking}") String waitStrategy) {
+        RingBufferEventTransport transport = new RingBufferEventTransport(capacity, batchSize,
+                RingBufferEventTransport.WaitStrategy.valueOf(waitStrategy.trim().toUpperCase().replace('-', '_')),
+                terminationEventListener::handleEmployeeEvents);
+        Gauge.builder("hive.events.ring-buffer.depth", transport, RingBufferEventTransport::depth)
+                .description("Employee events waiting in the in-process ring buffer")
+                .register(meterRegistry);
+        return transport;
+    }
+}
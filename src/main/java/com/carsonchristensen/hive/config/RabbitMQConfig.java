@@ -1,13 +1,22 @@
 package com.carsonchristensen.hive.config; // UPDATED PACKAGE
 
+import com.carsonchristensen.hive.event.EmployeeEventMessageConverter;
+import com.carsonchristensen.hive.event.EventTransport;
+import com.carsonchristensen.hive.listener.TerminationRetryPublisher;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 
 @Configuration
 public class RabbitMQConfig {
@@ -16,6 +25,21 @@ public class RabbitMQConfig {
     public static final String QUEUE_NAME = "hive.general.queue";
     public static final String ROUTING_KEY_PATTERN = "hr.employee.#";
 
+    // Per-node broadcasts: every instance binds its own auto-delete queue to these keys
+    public static final String NODE_ROUTING_KEY_PATTERN = "hive.node.#";
+    public static final String EMPLOYEE_UPDATED_ROUTING_KEY = "hive.node.employee-updated";
+
+    // Termination effect retries: failed effects wait out their backoff in a TTL queue per delay, which
+    // dead-letters them into the effect's retry queue; after the last retry they land in the DLQ
+    public static final String RETRY_DELAY_EXCHANGE = "hive.retry.delay";
+    public static final String RETRY_EXCHANGE = "hive.retry";
+    public static final String RETRY_DELAY_QUEUE_PREFIX = "hive.retry.delay.";
+    public static final String DEVICE_RETRY_QUEUE = "hive.termination.retry.devices";
+    public static final String APP_RETRY_QUEUE = "hive.termination.retry.apps";
+    public static final String DEVICE_RETRY_KEY = "devices";
+    public static final String APP_RETRY_KEY = "apps";
+    public static final String DEAD_LETTER_QUEUE = "hive.termination.dlq";
+
     @Bean
     public TopicExchange exchange() {
         return new TopicExchange(EXCHANGE_NAME);
@@ -32,22 +56,110 @@ public class RabbitMQConfig {
     }
 
     @Bean
-    public MessageConverter jsonMessageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public Queue nodeQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding nodeBinding(Queue nodeQueue, TopicExchange exchange) {
+        return BindingBuilder.bind(nodeQueue).to(exchange).with(NODE_ROUTING_KEY_PATTERN);
+    }
+
+    @Bean
+    public TopicExchange retryDelayExchange() {
+        return new TopicExchange(RETRY_DELAY_EXCHANGE);
+    }
+
+    @Bean
+    public TopicExchange retryExchange() {
+        return new TopicExchange(RETRY_EXCHANGE);
+    }
+
+    // One queue per backoff step, named by its delay: a queue's TTL can't change once declared,
+    // so new retry settings get new queues rather than a declaration conflict
+    @Bean
+    public Declarables retryDelayQueues(TerminationRetryPublisher retryPublisher) {
+        List<Declarable> declarables = new ArrayList<>();
+        for (long delayMs : new LinkedHashSet<>(retryPublisher.delaysMs())) {
+            Queue delayQueue = QueueBuilder.durable(RETRY_DELAY_QUEUE_PREFIX + delayMs + "ms")
+                    .ttl((int) Math.min(delayMs, Integer.MAX_VALUE))
+                    .deadLetterExchange(RETRY_EXCHANGE)
+                    .build();
+            declarables.add(delayQueue);
+            declarables.add(BindingBuilder.bind(delayQueue).to(retryDelayExchange())
+                    .with(retryDelayRoutingKey(delayMs, "*")));
+        }
+        return new Declarables(declarables);
+    }
+
+    @Bean
+    public Queue deviceRetryQueue() {
+        return new Queue(DEVICE_RETRY_QUEUE, true);
+    }
+
+    @Bean
+    public Queue appRetryQueue() {
+        return new Queue(APP_RETRY_QUEUE, true);
+    }
+
+    // Dead-lettering keeps the "<delay>ms.<effect>" key, so the effect segment picks the queue
+    @Bean
+    public Binding deviceRetryBinding(Queue deviceRetryQueue, TopicExchange retryExchange) {
+        return BindingBuilder.bind(deviceRetryQueue).to(retryExchange).with("*." + DEVICE_RETRY_KEY);
+    }
+
+    @Bean
+    public Binding appRetryBinding(Queue appRetryQueue, TopicExchange retryExchange) {
+        return BindingBuilder.bind(appRetryQueue).to(retryExchange).with("*." + APP_RETRY_KEY);
+    }
+
+    @Bean
+    public Queue deadLetterQueue() {
+        return new Queue(DEAD_LETTER_QUEUE, true);
+    }
+
+    public static String retryDelayRoutingKey(long delayMs, String effectKey) {
+        return delayMs + "ms." + effectKey;
+    }
+
+    // EmployeeEvents go out in the compact binary layout unless hive.messaging.event-format=json;
+    // both formats are always accepted on the way in
+    @Bean
+    public MessageConverter messageConverter(@Value("${hive.messaging.event-format:binary}") String eventFormat) {
+        return new EmployeeEventMessageConverter(new Jackson2JsonMessageConverter(), "binary".equalsIgnoreCase(eventFormat));
     }
 
     @Bean
-    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
-        template.setMessageConverter(jsonMessageConverter());
+        template.setMessageConverter(messageConverter);
         return template;
     }
 
     @Bean
-    public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(ConnectionFactory connectionFactory) {
+    public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            MessageConverter messageConverter,
+            @Value("${hive.listener.batch-size:100}") int batchSize,
+            @Value("${hive.listener.batch-receive-timeout-ms:50}") long batchReceiveTimeoutMs,
+            @Value("${hive.listener.concurrency:4}") int concurrency,
+            @Value("${hive.listener.prefetch:250}") int prefetch,
+            @Value("${" + EventTransport.PROPERTY + ":" + EventTransport.AMQP + "}") String eventTransport) {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
-        factory.setMessageConverter(jsonMessageConverter());
+        // With the in-process transport nothing arrives over the broker, so the listeners stay stopped
+        factory.setAutoStartup(EventTransport.AMQP.equals(eventTransport));
+        factory.setMessageConverter(messageConverter);
+        // Consumer-side batching: deliver up to batchSize messages, or whatever arrived within
+        // the receive window, as one List. The whole batch is acked together once the listener returns.
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setBatchReceiveTimeout(batchReceiveTimeoutMs);
+        // Consumers block on the broker and the DB, so run them on virtual threads
+        factory.setConcurrentConsumers(concurrency);
+        factory.setPrefetchCount(prefetch);
+        factory.setTaskExecutor(new VirtualThreadTaskExecutor("hive-consumer-"));
         return factory;
     }
 }
\ No newline at end of file
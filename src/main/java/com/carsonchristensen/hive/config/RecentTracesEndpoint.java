@@ -0,0 +1,126 @@
+package com.carsonchristensen.hive.config;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the most recent sampled spans in memory, so traces can be inspected locally
+ * without a collector: /actuator/traces lists recent traces, /actuator/traces/{traceId}
+ * shows one trace's spans in start order. Spans reach it through the OpenTelemetry batch
+ * processor, so a trace can take a few seconds to appear. Oldest spans are dropped first.
+ */
+@Component
+@Endpoint(id = "traces")
+public class RecentTracesEndpoint implements SpanExporter {
+
+    private static final int LISTED_TRACES = 50;
+
+    private final int capacity;
+    private final ArrayDeque<SpanData> spans;
+
+    public RecentTracesEndpoint(@Value("${hive.tracing.recent-spans:10000}") int capacity) {
+        this.capacity = capacity;
+        this.spans = new ArrayDeque<>(capacity);
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> batch) {
+        for (SpanData span : batch) {
+            if (spans.size() == capacity) {
+                spans.removeFirst();
+            }
+            spans.addLast(span);
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    // Newest first
+    @ReadOperation
+    public List<TraceSummary> traces() {
+        Map<String, List<SpanData>> byTrace = snapshotByTrace();
+        List<TraceSummary> summaries = new ArrayList<>();
+        byTrace.forEach((traceId, traceSpans) -> summaries.add(summarize(traceId, traceSpans)));
+        summaries.sort(Comparator.comparing(TraceSummary::start).reversed());
+        return summaries.subList(0, Math.min(LISTED_TRACES, summaries.size()));
+    }
+
+    @ReadOperation
+    public List<SpanView> trace(@Selector String traceId) {
+        List<SpanData> traceSpans = snapshotByTrace().getOrDefault(traceId, List.of());
+        long traceStart = traceSpans.stream().mapToLong(SpanData::getStartEpochNanos).min().orElse(0);
+        return traceSpans.stream()
+                .sorted(Comparator.comparingLong(SpanData::getStartEpochNanos))
+                .map(span -> new SpanView(
+                        span.getName(),
+                        span.getSpanId(),
+                        span.getParentSpanContext().isValid() ? span.getParentSpanId() : null,
+                        span.getKind().name(),
+                        millis(span.getStartEpochNanos() - traceStart),
+                        millis(span.getEndEpochNanos() - span.getStartEpochNanos()),
+                        span.getStatus().getStatusCode().name(),
+                        attributes(span)))
+                .toList();
+    }
+
+    private synchronized Map<String, List<SpanData>> snapshotByTrace() {
+        Map<String, List<SpanData>> byTrace = new LinkedHashMap<>();
+        for (SpanData span : spans) {
+            byTrace.computeIfAbsent(span.getTraceId(), id -> new ArrayList<>()).add(span);
+        }
+        return byTrace;
+    }
+
+    private static TraceSummary summarize(String traceId, List<SpanData> traceSpans) {
+        SpanData root = traceSpans.stream()
+                .filter(span -> !span.getParentSpanContext().isValid())
+                .findFirst()
+                .orElse(traceSpans.stream().min(Comparator.comparingLong(SpanData::getStartEpochNanos)).orElseThrow());
+        long start = traceSpans.stream().mapToLong(SpanData::getStartEpochNanos).min().orElseThrow();
+        long end = traceSpans.stream().mapToLong(SpanData::getEndEpochNanos).max().orElseThrow();
+        boolean error = traceSpans.stream().anyMatch(span -> span.getStatus().getStatusCode().name().equals("ERROR"));
+        return new TraceSummary(traceId, root.getName(), Instant.ofEpochSecond(0, start), millis(end - start),
+                traceSpans.size(), error);
+    }
+
+    private static Map<String, String> attributes(SpanData span) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        span.getAttributes().forEach((AttributeKey<?> key, Object value) -> attributes.put(key.getKey(), String.valueOf(value)));
+        return attributes;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public record TraceSummary(String traceId, String root, Instant start, double durationMs, int spans, boolean error) {}
+
+    public record SpanView(String name, String spanId, String parentSpanId, String kind,
+                           double startOffsetMs, double durationMs, String status, Map<String, String> attributes) {}
+}
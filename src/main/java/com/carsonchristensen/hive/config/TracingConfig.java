@@ -0,0 +1,19 @@
+package com.carsonchristensen.hive.config;
+
+import io.micrometer.observation.ObservationPredicate;
+import io.micrometer.tracing.Tracer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TracingConfig {
+
+    // The outbox relay and stats reconciler poll several times a second: without this, their
+    // scheduler and JDBC spans would crowd requests and terminations out of the sampled traces.
+    // Queries still get spans whenever a request or termination span is in scope.
+    @Bean
+    public ObservationPredicate skipBackgroundPolling(Tracer tracer) {
+        return (name, context) -> !name.equals("tasks.scheduled.execution")
+                && (!name.startsWith("jdbc.") || tracer.currentSpan() != null);
+    }
+}
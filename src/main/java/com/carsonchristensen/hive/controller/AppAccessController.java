@@ -1,5 +1,8 @@
 package com.carsonchristensen.hive.controller;
 
+import com.carsonchristensen.hive.dto.AppAccessFilter;
+import com.carsonchristensen.hive.dto.AppAccessView;
+import com.carsonchristensen.hive.dto.AppLicenseCount;
 import com.carsonchristensen.hive.model.AppAccess;
 import com.carsonchristensen.hive.service.AppAccessService;
 import jakarta.validation.Valid;
@@ -10,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.List;
@@ -20,31 +24,54 @@ import java.util.Map;
 public class AppAccessController {
 
     private final AppAccessService appAccessService;
+    private final NdjsonWriter ndjsonWriter;
 
-    public AppAccessController(AppAccessService appAccessService) {
+    public AppAccessController(AppAccessService appAccessService, NdjsonWriter ndjsonWriter) {
         this.appAccessService = appAccessService;
+        this.ndjsonWriter = ndjsonWriter;
     }
 
     // GET /api/app-access - All app accesses
     @GetMapping
-    public List<AppAccess> getAllAppAccesses() {
+    public List<AppAccessView> getAllAppAccesses() {
         return appAccessService.getAllAppAccesses();
     }
 
+    // GET /api/app-access?after={id}&limit={n}[&appName=&status=&role=] - One filtered keyset page, ordered by ID.
+    // appName is a case-insensitive prefix.
+    @GetMapping(params = "limit")
+    public CursorPage<AppAccessView> getAppAccessPage(@RequestParam(defaultValue = "0") Long after, @RequestParam int limit,
+                                                      AppAccessFilter filter) {
+        int pageSize = CursorPage.clampLimit(limit);
+        return CursorPage.of(appAccessService.searchAppAccesses(filter, after, pageSize), pageSize, AppAccessView::id);
+    }
+
+    // GET /api/app-access/active-by-app - Active license count per app, largest first
+    @GetMapping("/active-by-app")
+    public List<AppLicenseCount> getActiveLicenseCounts() {
+        return appAccessService.getActiveLicenseCounts();
+    }
+
+    // GET /api/app-access/stream - Every app access as NDJSON, streamed from a DB cursor
+    @GetMapping(value = "/stream", produces = NdjsonWriter.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> streamAppAccesses() {
+        return ndjsonWriter.stream(appAccessService::streamAllAppAccesses);
+    }
+
     // GET /api/app-access/employee/{employeeId} - Apps for an employee
     @GetMapping("/employee/{employeeId}")
-    public List<AppAccess> getAppsByEmployee(@PathVariable Long employeeId) {
+    public List<AppAccessView> getAppsByEmployee(@PathVariable Long employeeId) {
         return appAccessService.getAppsByEmployee(employeeId);
     }
 
     @PostMapping
-    public ResponseEntity<AppAccess> assignApp(@Valid @RequestBody AppAccessRequest request) {
+    public ResponseEntity<AppAccessView> assignApp(@Valid @RequestBody AppAccessRequest request) {
         AppAccess appAccess = appAccessService.assignApp(
                 request.employeeId(),
                 request.appName(),
                 request.role()
         );
-        return ResponseEntity.status(HttpStatus.CREATED).body(appAccess);
+        return ResponseEntity.status(HttpStatus.CREATED).body(AppAccessView.from(appAccess));
     }
 
     // AppAccessRequest record
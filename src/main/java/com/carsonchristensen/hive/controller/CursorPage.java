@@ -0,0 +1,19 @@
+package com.carsonchristensen.hive.controller;
+
+import java.util.List;
+import java.util.function.Function;
+
+// One keyset page; pass nextCursor back as ?after= to get the next one (null on the last page)
+public record CursorPage<T>(List<T> items, Long nextCursor) {
+
+    static final int MAX_LIMIT = 1000;
+
+    static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    static <T> CursorPage<T> of(List<T> items, int limit, Function<T, Long> idOf) {
+        Long nextCursor = items.size() == limit ? idOf.apply(items.get(items.size() - 1)) : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+}
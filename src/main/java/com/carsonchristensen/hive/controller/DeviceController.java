@@ -1,5 +1,7 @@
 package com.carsonchristensen.hive.controller;
 
+import com.carsonchristensen.hive.dto.DeviceFilter;
+import com.carsonchristensen.hive.dto.DeviceView;
 import com.carsonchristensen.hive.model.Device;
 import com.carsonchristensen.hive.service.DeviceService;
 import jakarta.validation.Valid;
@@ -10,6 +12,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.List;
@@ -20,31 +23,47 @@ import java.util.Map;
 public class DeviceController {
 
     private final DeviceService deviceService;
+    private final NdjsonWriter ndjsonWriter;
 
-    public DeviceController(DeviceService deviceService) {
+    public DeviceController(DeviceService deviceService, NdjsonWriter ndjsonWriter) {
         this.deviceService = deviceService;
+        this.ndjsonWriter = ndjsonWriter;
     }
 
     // GET /api/devices - All devices
     @GetMapping
-    public List<Device> getAllDevices() {
+    public List<DeviceView> getAllDevices() {
         return deviceService.getAllDevices();
     }
 
+    // GET /api/devices?after={id}&limit={n}[&type=&isLocked=] - One filtered keyset page, ordered by ID
+    @GetMapping(params = "limit")
+    public CursorPage<DeviceView> getDevicePage(@RequestParam(defaultValue = "0") Long after, @RequestParam int limit,
+                                                DeviceFilter filter) {
+        int pageSize = CursorPage.clampLimit(limit);
+        return CursorPage.of(deviceService.searchDevices(filter, after, pageSize), pageSize, DeviceView::id);
+    }
+
+    // GET /api/devices/stream - Every device as NDJSON, streamed from a DB cursor
+    @GetMapping(value = "/stream", produces = NdjsonWriter.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> streamDevices() {
+        return ndjsonWriter.stream(deviceService::streamAllDevices);
+    }
+
     // GET /api/devices/employee/{employeeId} - Devices for an employee
     @GetMapping("/employee/{employeeId}")
-    public List<Device> getDevicesByEmployee(@PathVariable Long employeeId) {
+    public List<DeviceView> getDevicesByEmployee(@PathVariable Long employeeId) {
         return deviceService.getDevicesByEmployee(employeeId);
     }
 
     @PostMapping
-    public ResponseEntity<Device> assignDevice(@Valid @RequestBody DeviceRequest request) {
+    public ResponseEntity<DeviceView> assignDevice(@Valid @RequestBody DeviceRequest request) {
         Device device = deviceService.assignDevice(
                 request.employeeId(),
                 request.deviceType(),
                 request.serialNumber()
         );
-        return ResponseEntity.status(HttpStatus.CREATED).body(device);
+        return ResponseEntity.status(HttpStatus.CREATED).body(DeviceView.from(device));
     }
 
     // DeviceRequest record
@@ -1,13 +1,26 @@
 package com.carsonchristensen.hive.controller;
 
+import com.carsonchristensen.hive.dto.EmployeeFilter;
+import com.carsonchristensen.hive.dto.EmployeeSummary;
 import com.carsonchristensen.hive.model.Employee;
+import com.carsonchristensen.hive.service.BulkTerminationResult;
 import com.carsonchristensen.hive.service.EmployeeService;
+import com.carsonchristensen.hive.service.EmployeeSummaryService;
+import com.carsonchristensen.hive.service.EmployeeUpdateStreams;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.List;
@@ -18,9 +31,18 @@ import java.util.Map;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeSummaryService employeeSummaryService;
+    private final EmployeeUpdateStreams employeeUpdateStreams;
+    private final NdjsonWriter ndjsonWriter;
 
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService,
+                              EmployeeSummaryService employeeSummaryService,
+                              EmployeeUpdateStreams employeeUpdateStreams,
+                              NdjsonWriter ndjsonWriter) {
         this.employeeService = employeeService;
+        this.employeeSummaryService = employeeSummaryService;
+        this.employeeUpdateStreams = employeeUpdateStreams;
+        this.ndjsonWriter = ndjsonWriter;
     }
 
     // GET /api/employees - See everyone
@@ -29,6 +51,21 @@ public class EmployeeController {
         return employeeService.getAllEmployees();
     }
 
+    // GET /api/employees?after={id}&limit={n}[&status=&department=&name=] - One filtered keyset page, ordered by ID.
+    // name is a case-insensitive prefix of the full name.
+    @GetMapping(params = "limit")
+    public CursorPage<Employee> getEmployeePage(@RequestParam(defaultValue = "0") Long after, @RequestParam int limit,
+                                                EmployeeFilter filter) {
+        int pageSize = CursorPage.clampLimit(limit);
+        return CursorPage.of(employeeService.searchEmployees(filter, after, pageSize), pageSize, Employee::getId);
+    }
+
+    // GET /api/employees/stream - Every employee as NDJSON, streamed from a DB cursor
+    @GetMapping(value = "/stream", produces = NdjsonWriter.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> streamEmployees() {
+        return ndjsonWriter.stream(employeeService::streamAllEmployees);
+    }
+
     // GET /api/employees/{id} - Get single employee
     @GetMapping("/{id}")
     public ResponseEntity<Employee> getEmployee(@PathVariable Long id) {
@@ -37,6 +74,29 @@ public class EmployeeController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    // GET /api/employees/{id}/summary - Employee, devices and apps in one response.
+    // Carries an ETag, so polling clients get 304 Not Modified until something changes.
+    @GetMapping("/{id}/summary")
+    public ResponseEntity<EmployeeSummary> getEmployeeSummary(@PathVariable Long id, WebRequest request) {
+        EmployeeSummary summary = employeeSummaryService.getSummary(id);
+        if (summary == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (request.checkNotModified(summary.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(summary.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(summary);
+    }
+
+    // GET /api/employees/{id}/events - Server-Sent Events pushed when termination effects land
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEmployeeUpdates(@PathVariable Long id) {
+        return employeeUpdateStreams.subscribe(id);
+    }
+
     // POST /api/employees - Hire someone (Body: JSON)
     @PostMapping
     public ResponseEntity<Employee> createEmployee(@Valid @RequestBody Employee employee) {
@@ -51,6 +111,34 @@ public class EmployeeController {
         return ResponseEntity.ok(employee);
     }
 
+    // POST /api/employees/terminate - Bulk termination by IDs or department (Body: JSON)
+    @PostMapping("/terminate")
+    public ResponseEntity<BulkTerminationResult> terminateEmployees(@Valid @RequestBody BulkTerminationRequest request) {
+        BulkTerminationResult result = request.hasDepartment()
+                ? employeeService.terminateDepartment(request.department())
+                : employeeService.terminateEmployees(request.employeeIds());
+        return ResponseEntity.ok(result);
+    }
+
+    // BulkTerminationRequest record
+    public record BulkTerminationRequest(
+            @Size(max = 10000, message = "At most 10000 employee IDs per request")
+            List<@NotNull Long> employeeIds,
+
+            String department
+    ) {
+        @AssertTrue(message = "Provide either employeeIds or department, not both")
+        public boolean isTargetValid() {
+            boolean hasIds = employeeIds != null && !employeeIds.isEmpty();
+            return hasIds != hasDepartment();
+        }
+
+        // A blank department counts as absent, both here and when routing the request
+        public boolean hasDepartment() {
+            return department != null && !department.isBlank();
+        }
+    }
+
     // Handle validation errors
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationExceptions(MethodArgumentNotValidException ex) {
@@ -0,0 +1,96 @@
+package com.carsonchristensen.hive.controller;
+
+import com.carsonchristensen.hive.dto.EmployeeSummary;
+import com.carsonchristensen.hive.dto.EmployeeSummary.AppItem;
+import com.carsonchristensen.hive.dto.EmployeeSummary.DeviceItem;
+import com.carsonchristensen.hive.service.ExportService;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+
+    // One line per device or grant, employee columns repeated; employees with neither get one line
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.builder()
+            .addColumn("employeeId").addColumn("email").addColumn("fullName").addColumn("employeeStatus")
+            .addColumn("department").addColumn("recordType").addColumn("recordId").addColumn("name")
+            .addColumn("detail").addColumn("recordStatus")
+            .setUseHeader(true)
+            .build();
+
+    private final ExportService exportService;
+    private final NdjsonWriter ndjsonWriter;
+    // Leaves the response stream open; the container closes it
+    private final CsvMapper csvMapper = CsvMapper.builder().disable(StreamWriteFeature.AUTO_CLOSE_TARGET).build();
+
+    public ExportController(ExportService exportService, NdjsonWriter ndjsonWriter) {
+        this.exportService = exportService;
+        this.ndjsonWriter = ndjsonWriter;
+    }
+
+    // GET /api/export[?format=csv] - Every employee with devices and app grants, streamed from a DB cursor.
+    // NDJSON (default) is one summary object per employee. Gzipped by the container (server.compression)
+    // when the client accepts it.
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format) {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        String filename = "hive-export-" + LocalDate.now() + (csv ? ".csv" : ".ndjson");
+        return ResponseEntity.ok()
+                .contentType(csv ? MediaType.parseMediaType("text/csv") : MediaType.parseMediaType(NdjsonWriter.MEDIA_TYPE))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(out -> write(out, csv));
+    }
+
+    private void write(OutputStream out, boolean csv) throws IOException {
+        if (csv) {
+            writeCsv(out);
+        } else {
+            ndjsonWriter.write(out, exportService::streamEmployees);
+        }
+    }
+
+    private void writeCsv(OutputStream out) throws IOException {
+        try (SequenceWriter rows = csvMapper.writer(CSV_SCHEMA).writeValues(out)) {
+            exportService.streamEmployees(employee -> {
+                try {
+                    if (employee.devices().isEmpty() && employee.apps().isEmpty()) {
+                        rows.write(csvRow(employee, null, null, null, null, null));
+                    }
+                    for (DeviceItem device : employee.devices()) {
+                        rows.write(csvRow(employee, "DEVICE", device.id(), device.serialNumber(),
+                                device.type().name(), device.isLocked() ? "LOCKED" : "ACTIVE"));
+                    }
+                    for (AppItem app : employee.apps()) {
+                        rows.write(csvRow(employee, "APP", app.id(), app.appName(), app.role(), app.status()));
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private static Object[] csvRow(EmployeeSummary employee, String recordType, Long recordId,
+                                   String name, String detail, String recordStatus) {
+        return new Object[]{employee.id(), employee.email(), employee.fullName(), employee.status().name(),
+                employee.department(), recordType, recordId, name, detail, recordStatus};
+    }
+}
@@ -0,0 +1,48 @@
+package com.carsonchristensen.hive.controller;
+
+import com.carsonchristensen.hive.service.BulkImportService;
+import com.carsonchristensen.hive.service.BulkImportService.Format;
+import com.carsonchristensen.hive.service.ImportReport;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+// Bulk onboarding. The body is parsed as it arrives (CSV with a header row, or NDJSON) and
+// written in chunks; the response lists every row that was not imported and why.
+@RestController
+@RequestMapping("/api/import")
+public class ImportController {
+
+    private static final String CSV = "text/csv";
+    private static final MediaType NDJSON = MediaType.parseMediaType(NdjsonWriter.MEDIA_TYPE);
+
+    private final BulkImportService bulkImportService;
+
+    public ImportController(BulkImportService bulkImportService) {
+        this.bulkImportService = bulkImportService;
+    }
+
+    // POST /api/import/employees - Columns: email, fullName, department
+    @PostMapping(value = "/employees", consumes = {CSV, NdjsonWriter.MEDIA_TYPE})
+    public ImportReport importEmployees(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) {
+        return bulkImportService.importEmployees(body, format(contentType));
+    }
+
+    // POST /api/import/devices - Columns: employeeEmail, deviceType, serialNumber
+    @PostMapping(value = "/devices", consumes = {CSV, NdjsonWriter.MEDIA_TYPE})
+    public ImportReport importDevices(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) {
+        return bulkImportService.importDevices(body, format(contentType));
+    }
+
+    // POST /api/import/app-access - Columns: employeeEmail, appName, role
+    @PostMapping(value = "/app-access", consumes = {CSV, NdjsonWriter.MEDIA_TYPE})
+    public ImportReport importAppGrants(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) {
+        return bulkImportService.importAppGrants(body, format(contentType));
+    }
+
+    private static Format format(String contentType) {
+        return NDJSON.isCompatibleWith(MediaType.parseMediaType(contentType)) ? Format.NDJSON : Format.CSV;
+    }
+}
@@ -0,0 +1,24 @@
+package com.carsonchristensen.hive.controller;
+
+import com.carsonchristensen.hive.dto.DashboardStats;
+import com.carsonchristensen.hive.service.DashboardStatsService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/stats")
+public class StatsController {
+
+    private final DashboardStatsService statsService;
+
+    public StatsController(DashboardStatsService statsService) {
+        this.statsService = statsService;
+    }
+
+    // GET /api/stats - Dashboard counts from the in-memory read model (no table scans)
+    @GetMapping
+    public DashboardStats getStats() {
+        return statsService.getStats();
+    }
+}
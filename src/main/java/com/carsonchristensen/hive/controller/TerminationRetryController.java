@@ -0,0 +1,37 @@
+package com.carsonchristensen.hive.controller;
+
+import com.carsonchristensen.hive.listener.TerminationRetryPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/terminations/dead-letters")
+public class TerminationRetryController {
+
+    private final TerminationRetryPublisher retryPublisher;
+
+    public TerminationRetryController(TerminationRetryPublisher retryPublisher) {
+        this.retryPublisher = retryPublisher;
+    }
+
+    // GET /api/terminations/dead-letters - Side effects that failed every retry and wait for a replay
+    @GetMapping
+    public ResponseEntity<Map<String, Long>> getDeadLetterCount() {
+        return ResponseEntity.ok(Map.of("count", retryPublisher.deadLetterCount()));
+    }
+
+    // POST /api/terminations/dead-letters/replay - Retry every dead-lettered side effect (after fixing the cause)
+    @PostMapping("/replay")
+    public ResponseEntity<Map<String, Integer>> replayDeadLetters() {
+        return ResponseEntity.ok(Map.of("replayed", retryPublisher.replayDeadLetters()));
+    }
+
+    // The dead-letter queue lives on the broker; the in-process transport has none
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<Map<String, String>> handleNoBroker(IllegalStateException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", ex.getMessage()));
+    }
+}
@@ -0,0 +1,5 @@
+package com.carsonchristensen.hive.dto;
+
+// Optional list filters, bound from query parameters; null means "any"
+public record AppAccessFilter(String appName, String status, String role) {
+}
@@ -0,0 +1,17 @@
+package com.carsonchristensen.hive.dto;
+
+import com.carsonchristensen.hive.model.AppAccess;
+
+public record AppAccessView(Long id, String appName, String status, String role, EmployeeRef employee) {
+
+    // Flat constructor used by JPQL "select new" projections joined to the employee
+    public AppAccessView(Long id, String appName, String status, String role,
+                         Long employeeId, String employeeName, String employeeEmail) {
+        this(id, appName, status, role, EmployeeRef.of(employeeId, employeeName, employeeEmail));
+    }
+
+    public static AppAccessView from(AppAccess appAccess) {
+        return new AppAccessView(appAccess.getId(), appAccess.getAppName(), appAccess.getStatus(), appAccess.getRole(),
+                EmployeeRef.from(appAccess.getEmployee()));
+    }
+}
@@ -0,0 +1,16 @@
+package com.carsonchristensen.hive.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+// One app grant in a bulk import; the employee is referenced by email, not ID
+public record AppGrantImportRow(
+        @NotBlank(message = "Employee email is required")
+        String employeeEmail,
+
+        @NotBlank(message = "App name is required")
+        String appName,
+
+        @NotBlank(message = "Role is required")
+        String role
+) {
+}
@@ -0,0 +1,4 @@
+package com.carsonchristensen.hive.dto;
+
+public record AppLicenseCount(String appName, long activeCount) {
+}
@@ -0,0 +1,17 @@
+package com.carsonchristensen.hive.dto;
+
+import java.time.Instant;
+
+// Org-wide counts for the dashboard, served from in-memory counters
+public record DashboardStats(
+        long totalEmployees,
+        long activeEmployees,
+        long terminatedEmployees,
+        long onboardingEmployees,
+        long totalDevices,
+        long lockedDevices,
+        long totalAppAccesses,
+        long revokedAppAccesses,
+        Instant reconciledAt
+) {
+}
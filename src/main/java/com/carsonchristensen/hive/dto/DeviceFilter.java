@@ -0,0 +1,7 @@
+package com.carsonchristensen.hive.dto;
+
+import com.carsonchristensen.hive.model.DeviceType;
+
+// Optional list filters, bound from query parameters; null means "any"
+public record DeviceFilter(DeviceType type, Boolean isLocked) {
+}
@@ -0,0 +1,16 @@
+package com.carsonchristensen.hive.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+// One device assignment in a bulk import; the employee is referenced by email, not ID
+public record DeviceImportRow(
+        @NotBlank(message = "Employee email is required")
+        String employeeEmail,
+
+        @NotBlank(message = "Device type is required")
+        String deviceType,
+
+        @NotBlank(message = "Serial number is required")
+        String serialNumber
+) {
+}
@@ -0,0 +1,18 @@
+package com.carsonchristensen.hive.dto;
+
+import com.carsonchristensen.hive.model.Device;
+import com.carsonchristensen.hive.model.DeviceType;
+
+public record DeviceView(Long id, String serialNumber, DeviceType type, Boolean isLocked, EmployeeRef employee) {
+
+    // Flat constructor used by JPQL "select new" projections joined to the employee
+    public DeviceView(Long id, String serialNumber, DeviceType type, Boolean isLocked,
+                      Long employeeId, String employeeName, String employeeEmail) {
+        this(id, serialNumber, type, isLocked, EmployeeRef.of(employeeId, employeeName, employeeEmail));
+    }
+
+    public static DeviceView from(Device device) {
+        return new DeviceView(device.getId(), device.getSerialNumber(), device.getType(), device.getIsLocked(),
+                EmployeeRef.from(device.getEmployee()));
+    }
+}
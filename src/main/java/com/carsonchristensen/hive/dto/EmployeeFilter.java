@@ -0,0 +1,7 @@
+package com.carsonchristensen.hive.dto;
+
+import com.carsonchristensen.hive.model.EmployeeStatus;
+
+// Optional list filters, bound from query parameters; null means "any"
+public record EmployeeFilter(EmployeeStatus status, String department, String name) {
+}
@@ -0,0 +1,17 @@
+package com.carsonchristensen.hive.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+
+// One employee in a bulk import (CSV header or NDJSON keys: email, fullName, department)
+public record EmployeeImportRow(
+        @Email(message = "Email should be valid")
+        @NotBlank(message = "Email is required")
+        String email,
+
+        @NotBlank(message = "Full name is required")
+        String fullName,
+
+        String department
+) {
+}
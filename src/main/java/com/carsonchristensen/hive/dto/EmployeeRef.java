@@ -0,0 +1,15 @@
+package com.carsonchristensen.hive.dto;
+
+import com.carsonchristensen.hive.model.Employee;
+
+// The employee fields list views actually render, instead of the full Employee row
+public record EmployeeRef(Long id, String fullName, String email) {
+
+    public static EmployeeRef from(Employee employee) {
+        return employee != null ? new EmployeeRef(employee.getId(), employee.getFullName(), employee.getEmail()) : null;
+    }
+
+    static EmployeeRef of(Long id, String fullName, String email) {
+        return id != null ? new EmployeeRef(id, fullName, email) : null;
+    }
+}
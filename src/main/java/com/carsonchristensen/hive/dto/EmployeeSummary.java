@@ -0,0 +1,24 @@
+package com.carsonchristensen.hive.dto;
+
+import com.carsonchristensen.hive.model.DeviceType;
+import com.carsonchristensen.hive.model.EmployeeStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.List;
+
+// Everything the employee dashboard renders, built from one query and cached until the employee changes
+public record EmployeeSummary(
+        Long id,
+        String fullName,
+        String email,
+        EmployeeStatus status,
+        String department,
+        List<DeviceItem> devices,
+        List<AppItem> apps,
+        @JsonIgnore String etag
+) {
+
+    public record DeviceItem(Long id, String serialNumber, DeviceType type, Boolean isLocked) {}
+
+    public record AppItem(Long id, String appName, String role, String status) {}
+}
@@ -0,0 +1,165 @@
+package com.carsonchristensen.hive.event;
+
+import com.carsonchristensen.hive.config.RabbitMQConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Span;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publishes to hive.exchange with correlated publisher confirms. Sends don't wait for
+ * their confirm: each event gets a future completed by the broker's ack, so many
+ * messages are in flight per channel at once. A semaphore bounds the in-flight window;
+ * callers wait for a permit when it is full. Nacks, send failures and confirms that
+ * don't arrive within the timeout are retried with backoff, up to maxRetries.
+ *
+ * A retried event can overtake later ones and can arrive twice (a late ack after a
+ * timeout); termination handling is idempotent, so neither matters.
+ */
+@Slf4j
+public class AmqpEventTransport implements EventTransport {
+
+    public static final String IN_FLIGHT_GAUGE = "hive.events.publish.in-flight";
+    public static final String CONFIRMED_COUNTER = "hive.events.publish.confirmed";
+    public static final String NACKED_COUNTER = "hive.events.publish.nacked";
+    public static final String RETRIED_COUNTER = "hive.events.publish.retried";
+
+    private static final long BASE_RETRY_BACKOFF_MS = 100;
+    private static final Map<String, String> ROUTING_KEYS = new ConcurrentHashMap<>();
+
+    private final RabbitTemplate rabbitTemplate;
+    private final EventTracing eventTracing;
+    private final Semaphore window;
+    private final long confirmTimeoutMs;
+    private final int maxRetries;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter confirmed;
+    private final Counter nacked;
+    private final Counter retried;
+
+    public AmqpEventTransport(RabbitTemplate rabbitTemplate, EventTracing eventTracing, MeterRegistry meterRegistry,
+                              int maxInFlight, long confirmTimeoutMs, int maxRetries) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.eventTracing = eventTracing;
+        this.window = new Semaphore(maxInFlight);
+        this.confirmTimeoutMs = confirmTimeoutMs;
+        this.maxRetries = maxRetries;
+
+        Gauge.builder(IN_FLIGHT_GAUGE, inFlight, AtomicInteger::get)
+                .description("Employee events sent and waiting for a publisher confirm")
+                .register(meterRegistry);
+        this.confirmed = Counter.builder(CONFIRMED_COUNTER)
+                .description("Employee events acked by the broker")
+                .register(meterRegistry);
+        this.nacked = Counter.builder(NACKED_COUNTER)
+                .description("Employee event sends that were nacked, failed or timed out waiting for a confirm")
+                .register(meterRegistry);
+        this.retried = Counter.builder(RETRIED_COUNTER)
+                .description("Employee event sends retried after a nack, failure or timeout")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<Void> publishAsync(List<EmployeeEvent> events) {
+        CompletableFuture<?>[] confirms = new CompletableFuture<?>[events.size()];
+        for (int i = 0; i < confirms.length; i++) {
+            confirms[i] = publishAsync(events.get(i));
+        }
+        return CompletableFuture.allOf(confirms);
+    }
+
+    // Completes when the broker has acked the event; waits here only while the in-flight window is full
+    public CompletableFuture<Void> publishAsync(EmployeeEvent event) {
+        try {
+            if (!window.tryAcquire(confirmTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return CompletableFuture.failedFuture(new AmqpException(
+                        "Publish window full for " + confirmTimeoutMs + "ms, broker is not confirming"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(new AmqpException("Interrupted waiting for the publish window", e));
+        }
+
+        inFlight.incrementAndGet();
+        // Spans send to final confirm, retries included: the broker's share of the trace
+        Span span = eventTracing.producerSpan(event);
+        String traceParent = eventTracing.traceParentOf(span);
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        // Callers chain off the returned stage, so the permit is already back when they run
+        CompletableFuture<Void> released = result.whenComplete((ignored, error) -> {
+            inFlight.decrementAndGet();
+            window.release();
+            if (error != null) {
+                span.error(error);
+            }
+            span.end();
+        });
+        send(event, traceParent, 1, result);
+        return released;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private void send(EmployeeEvent event, String traceParent, int attempt, CompletableFuture<Void> result) {
+        CorrelationData correlation = new CorrelationData();
+        try {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.EXCHANGE_NAME, routingKeyFor(event), event, message -> {
+                if (traceParent != null) {
+                    message.getMessageProperties().setHeader(EventTracing.TRACEPARENT_HEADER, traceParent);
+                }
+                return message;
+            }, correlation);
+        } catch (AmqpException e) {
+            retryOrFail(event, traceParent, attempt, result, e.getMessage());
+            return;
+        }
+        // Completed on the connection's thread by the confirm callback; a closed channel nacks its pending sends
+        correlation.getFuture()
+                .orTimeout(confirmTimeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((confirm, error) -> {
+                    if (error == null && confirm.isAck()) {
+                        confirmed.increment();
+                        result.complete(null);
+                    } else {
+                        retryOrFail(event, traceParent, attempt, result, error != null ? "no confirm within "
+                                + confirmTimeoutMs + "ms" : "nacked: " + confirm.getReason());
+                    }
+                });
+    }
+
+    private void retryOrFail(EmployeeEvent event, String traceParent, int attempt,
+                             CompletableFuture<Void> result, String reason) {
+        nacked.increment();
+        if (attempt > maxRetries) {
+            result.completeExceptionally(new AmqpException("Employee event for " + event.employeeId()
+                    + " not confirmed after " + attempt + " attempts: " + reason));
+            return;
+        }
+        retried.increment();
+        long backoffMs = BASE_RETRY_BACKOFF_MS << (attempt - 1);
+        log.warn("Employee event for {} not confirmed ({}), retrying in {}ms", event.employeeId(), reason, backoffMs);
+        // Off the connection thread: sending from inside a confirm callback would block it
+        CompletableFuture.delayedExecutor(backoffMs, TimeUnit.MILLISECONDS)
+                .execute(() -> send(event, traceParent, attempt + 1, result));
+    }
+
+    // We construct the routing key from the type: "hr.employee.terminated", so listeners can
+    // filter by action. Event types are a handful of constants, so each key is built once.
+    public static String routingKeyFor(EmployeeEvent event) {
+        return ROUTING_KEYS.computeIfAbsent(event.type(), type -> "hr.employee." + type.toLowerCase());
+    }
+}
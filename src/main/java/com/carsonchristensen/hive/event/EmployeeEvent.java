@@ -1,6 +1,25 @@
 package com.carsonchristensen.hive.event; // UPDATED PACKAGE
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.time.Instant;
 
-public record EmployeeEvent(String type, Long employeeId, Instant timestamp) {
-}
\ No newline at end of file
+// eventId is the outbox row ID, assigned when the event is relayed: every republish and broker
+// redelivery of the same event carries the same ID. Null for events that never went through the outbox.
+// traceParent is the W3C trace context of the request that caused the event; over AMQP it travels
+// in the traceparent header rather than the body.
+public record EmployeeEvent(Long eventId, String type, Long employeeId, Instant timestamp,
+                            @JsonIgnore String traceParent) {
+
+    public EmployeeEvent(String type, Long employeeId, Instant timestamp) {
+        this(null, type, employeeId, timestamp, null);
+    }
+
+    public EmployeeEvent(Long eventId, String type, Long employeeId, Instant timestamp) {
+        this(eventId, type, employeeId, timestamp, null);
+    }
+
+    public EmployeeEvent withTraceParent(String traceParent) {
+        return new EmployeeEvent(eventId, type, employeeId, timestamp, traceParent);
+    }
+}
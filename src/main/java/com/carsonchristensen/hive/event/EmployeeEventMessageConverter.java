@@ -0,0 +1,99 @@
+package com.carsonchristensen.hive.event;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes EmployeeEvent as a 26-byte fixed layout instead of JSON:
+ * <pre>
+ *   version (1) | type code (1) | eventId, 0 if none (8) | employeeId (8) | timestamp, epoch nanos (8)
+ * </pre>
+ * Version 1 messages (18 bytes, no eventId) are still decoded.
+ * Decoding picks the format by content type, so binary and JSON messages can sit
+ * in the same queue while nodes are rolled over. Everything else (other payloads,
+ * event types without a code, or binary output switched off) goes through the
+ * JSON delegate unchanged.
+ */
+public class EmployeeEventMessageConverter implements MessageConverter {
+
+    public static final String CONTENT_TYPE = "application/x-hive-employee-event";
+
+    static final int LENGTH = 26;
+    private static final byte VERSION = 2;
+    private static final int V1_LENGTH = 18;
+    private static final byte V1 = 1;
+    // Outbox IDs come from a sequence starting at 1, so 0 can stand for "no event ID"
+    private static final long NO_EVENT_ID = 0;
+
+    // Wire codes are permanent: add new types at the end, never renumber
+    private static final List<String> TYPE_CODES = List.of("TERMINATED");
+    private static final Map<String, Byte> CODE_BY_TYPE = Map.of("TERMINATED", (byte) 0);
+
+    private final MessageConverter jsonConverter;
+    private final boolean binaryOutput;
+
+    public EmployeeEventMessageConverter(MessageConverter jsonConverter, boolean binaryOutput) {
+        this.jsonConverter = jsonConverter;
+        this.binaryOutput = binaryOutput;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        if (binaryOutput && object instanceof EmployeeEvent event && CODE_BY_TYPE.containsKey(event.type())) {
+            messageProperties.setContentType(CONTENT_TYPE);
+            messageProperties.setContentLength(LENGTH);
+            return new Message(encode(event), messageProperties);
+        }
+        return jsonConverter.toMessage(object, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        Object payload = CONTENT_TYPE.equals(properties.getContentType())
+                ? decode(message.getBody())
+                : jsonConverter.fromMessage(message);
+        // The publisher's trace context rides in a header, outside either body format
+        if (payload instanceof EmployeeEvent event && properties.getHeader(EventTracing.TRACEPARENT_HEADER) != null) {
+            return event.withTraceParent(properties.getHeader(EventTracing.TRACEPARENT_HEADER).toString());
+        }
+        return payload;
+    }
+
+    static byte[] encode(EmployeeEvent event) {
+        Instant timestamp = event.timestamp();
+        long epochNanos = timestamp.getEpochSecond() * 1_000_000_000L + timestamp.getNano();
+        return ByteBuffer.allocate(LENGTH)
+                .put(VERSION)
+                .put(CODE_BY_TYPE.get(event.type()))
+                .putLong(event.eventId() != null ? event.eventId() : NO_EVENT_ID)
+                .putLong(event.employeeId())
+                .putLong(epochNanos)
+                .array();
+    }
+
+    static EmployeeEvent decode(byte[] body) {
+        boolean current = body.length == LENGTH && body[0] == VERSION;
+        if (!current && !(body.length == V1_LENGTH && body[0] == V1)) {
+            throw new MessageConversionException("Unsupported employee event encoding (length "
+                    + body.length + ", version " + (body.length > 0 ? body[0] : "none") + ")");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(body, 1, body.length - 1);
+        int code = buffer.get();
+        if (code < 0 || code >= TYPE_CODES.size()) {
+            throw new MessageConversionException("Unknown employee event type code: " + code);
+        }
+        long eventId = current ? buffer.getLong() : NO_EVENT_ID;
+        long employeeId = buffer.getLong();
+        long epochNanos = buffer.getLong();
+        return new EmployeeEvent(eventId != NO_EVENT_ID ? eventId : null, TYPE_CODES.get(code), employeeId,
+                Instant.ofEpochSecond(0, epochNanos));
+    }
+}
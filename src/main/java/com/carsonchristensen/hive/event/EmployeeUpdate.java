@@ -0,0 +1,8 @@
+package com.carsonchristensen.hive.event;
+
+import java.time.Instant;
+import java.util.List;
+
+// Broadcast to every node once termination effects (or other changes) have been applied
+public record EmployeeUpdate(List<Long> employeeIds, String type, Instant timestamp) {
+}
@@ -0,0 +1,52 @@
+package com.carsonchristensen.hive.event;
+
+import com.carsonchristensen.hive.config.RabbitMQConfig;
+import com.carsonchristensen.hive.service.EmployeeUpdateStreams;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Fans an EmployeeUpdate out to every node over hive.exchange. Each node's
+ * NodeBroadcastListener evicts its per-employee caches and hands the update to
+ * its own EmployeeUpdateStreams, since the browser's SSE connection may live on
+ * a different node than the one that made the change.
+ */
+@Slf4j
+@Service
+public class EmployeeUpdatePublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final EmployeeUpdateStreams employeeUpdateStreams;
+    private final boolean broadcast;
+
+    public EmployeeUpdatePublisher(RabbitTemplate rabbitTemplate,
+                                   EmployeeUpdateStreams employeeUpdateStreams,
+                                   @Value("${" + EventTransport.PROPERTY + ":" + EventTransport.AMQP + "}") String eventTransport) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.employeeUpdateStreams = employeeUpdateStreams;
+        // The in-process transport means a single node without a broker: there is no one else to tell
+        this.broadcast = EventTransport.AMQP.equals(eventTransport);
+    }
+
+    public void publish(Collection<Long> employeeIds, String type) {
+        EmployeeUpdate update = new EmployeeUpdate(List.copyOf(employeeIds), type, Instant.now());
+        if (!broadcast) {
+            employeeUpdateStreams.deliver(update);
+            return;
+        }
+        try {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.EXCHANGE_NAME, RabbitMQConfig.EMPLOYEE_UPDATED_ROUTING_KEY, update);
+        } catch (AmqpException e) {
+            // Best effort: at least reach the subscribers connected to this node
+            log.warn("Could not broadcast employee update, delivering locally only: {}", e.getMessage());
+            employeeUpdateStreams.deliver(update);
+        }
+    }
+}
@@ -1,25 +1,60 @@
 package com.carsonchristensen.hive.event;
 
-import com.carsonchristensen.hive.config.RabbitMQConfig;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
 @Service
 public class EventPublisher {
 
-    private final RabbitTemplate rabbitTemplate;
+    public static final String PUBLISH_TIMER = "hive.events.publish.duration";
+
+    private final EventTransport eventTransport;
+    private final MeterRegistry meterRegistry;
+    private final Timer publishSuccess;
+    private final Timer publishFailure;
+
+    public EventPublisher(EventTransport eventTransport, MeterRegistry meterRegistry) {
+        this.eventTransport = eventTransport;
+        this.meterRegistry = meterRegistry;
+        this.publishSuccess = publishTimer("success", meterRegistry);
+        this.publishFailure = publishTimer("failure", meterRegistry);
+    }
+
+    private static Timer publishTimer(String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder(PUBLISH_TIMER)
+                .description("Time from publishing a batch of employee events until all are confirmed")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    // Completes once the transport has confirmed (or, in-process, enqueued) the event
+    public CompletableFuture<Void> publishEmployeeEventAsync(EmployeeEvent event) {
+        return publishEmployeeEventsAsync(List.of(event));
+    }
 
-    public EventPublisher(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    public CompletableFuture<Void> publishEmployeeEventsAsync(List<EmployeeEvent> events) {
+        if (events.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        log.debug("Publishing {} employee events", events.size());
+        // From handing the batch over until its last confirm (or the failure)
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return eventTransport.publishAsync(events).whenComplete((ignored, error) ->
+                sample.stop(error == null ? publishSuccess : publishFailure));
     }
 
     public void publishEmployeeEvent(EmployeeEvent event) {
-        // We construct the routing key dynamically: "hr.employee.TERMINATED"
-        // This allows different listeners to filter by specific actions if they want.
-        String routingKey = "hr.employee." + event.type().toLowerCase();
-        
-        rabbitTemplate.convertAndSend(RabbitMQConfig.EXCHANGE_NAME, routingKey, event);
-        
-        System.out.println(" [x] Published Event: " + routingKey + " -> " + event);
+        publishEmployeeEventAsync(event).join();
+    }
+
+    // Blocks until every event is confirmed; throws if any of them could not be delivered
+    public void publishEmployeeEvents(List<EmployeeEvent> events) {
+        publishEmployeeEventsAsync(events).join();
     }
-}
\ No newline at end of file
+}
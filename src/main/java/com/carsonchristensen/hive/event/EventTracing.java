@@ -0,0 +1,107 @@
+package com.carsonchristensen.hive.event;
+
+import io.micrometer.tracing.Link;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Carries a termination's trace across the outbox and the broker. The request's
+ * context is stored with the event as a W3C traceparent, sent as the traceparent
+ * header of each AMQP message, and continued by the listener, so one trace runs
+ * from the HTTP call through publishing to the device and app updates. With
+ * tracing off every span is a no-op and no traceparent is recorded.
+ */
+@Component
+public class EventTracing {
+
+    public static final String TRACEPARENT_HEADER = "traceparent";
+
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    public EventTracing(Tracer tracer, ObjectProvider<Propagator> propagator) {
+        this.tracer = tracer;
+        this.propagator = propagator.getIfAvailable(() -> Propagator.NOOP);
+    }
+
+    // The current span's context, to store with an event; null outside a trace
+    public String currentTraceParent() {
+        Span span = tracer.currentSpan();
+        return span != null ? traceParentOf(span) : null;
+    }
+
+    public String traceParentOf(Span span) {
+        Map<String, String> carrier = new HashMap<>();
+        propagator.inject(span.context(), carrier, Map::put);
+        return carrier.get(TRACEPARENT_HEADER);
+    }
+
+    // Publishing one event, as a child of the request that caused it
+    public Span producerSpan(EmployeeEvent event) {
+        return continueTrace(event.traceParent(), "hive.events.publish")
+                .kind(Span.Kind.PRODUCER)
+                .tag("hive.employee.id", String.valueOf(event.employeeId()))
+                .start();
+    }
+
+    // Handling a batch: continues the first event's trace and links the others, since one batch
+    // can hold terminations from several requests
+    public Span consumerSpan(String name, List<EmployeeEvent> events) {
+        Set<String> traceParents = new LinkedHashSet<>();
+        events.forEach(event -> {
+            if (event.traceParent() != null) {
+                traceParents.add(event.traceParent());
+            }
+        });
+        String parent = traceParents.isEmpty() ? null : traceParents.iterator().next();
+        Span.Builder builder = continueTrace(parent, name)
+                .kind(Span.Kind.CONSUMER)
+                .tag("hive.batch.size", String.valueOf(events.size()))
+                .tag("hive.batch.traces", String.valueOf(traceParents.size()));
+        traceParents.stream().skip(1).map(this::linkTo).forEach(link -> {
+            if (link != null) {
+                builder.addLink(link);
+            }
+        });
+        return builder.start();
+    }
+
+    public Span childSpan(Span parent, String name) {
+        return tracer.nextSpan(parent).name(name).start();
+    }
+
+    public Tracer.SpanInScope inScope(Span span) {
+        return tracer.withSpan(span);
+    }
+
+    private Span.Builder continueTrace(String traceParent, String name) {
+        if (traceParent == null) {
+            return tracer.spanBuilder().setNoParent().name(name);
+        }
+        return propagator.extract(Map.of(TRACEPARENT_HEADER, traceParent), Map::get).name(name);
+    }
+
+    // traceparent: version-traceId-spanId-flags
+    private Link linkTo(String traceParent) {
+        String[] parts = traceParent.split("-");
+        if (parts.length != 4) {
+            return null;
+        }
+        TraceContext context = tracer.traceContextBuilder()
+                .traceId(parts[1])
+                .spanId(parts[2])
+                .sampled((Integer.parseInt(parts[3], 16) & 1) == 1)
+                .build();
+        return new Link(context);
+    }
+}
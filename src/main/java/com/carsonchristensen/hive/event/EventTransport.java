@@ -0,0 +1,21 @@
+package com.carsonchristensen.hive.event;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// Carries EmployeeEvents from EventPublisher to the termination handler. Selected with
+// hive.events.transport: amqp (RabbitMQ, default) or in-process (ring buffer, no broker).
+public interface EventTransport {
+
+    String PROPERTY = "hive.events.transport";
+    String AMQP = "amqp";
+    String IN_PROCESS = "in-process";
+
+    // Completes once the transport has taken responsibility for every event (confirmed or enqueued),
+    // or exceptionally if any of them could not be delivered
+    CompletableFuture<Void> publishAsync(List<EmployeeEvent> events);
+
+    default void publish(List<EmployeeEvent> events) {
+        publishAsync(events).join();
+    }
+}
@@ -0,0 +1,67 @@
+package com.carsonchristensen.hive.event;
+
+import com.carsonchristensen.hive.model.OutboxEvent;
+import com.carsonchristensen.hive.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Drains the outbox table to RabbitMQ in batches. Each batch is locked with
+ * SKIP LOCKED, published with its confirms pipelined and deleted in the same
+ * transaction once every event is confirmed, so a failed publish leaves the
+ * rows for the next poll.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final EventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       EventPublisher eventPublisher,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${hive.outbox.batch-size:500}") int batchSize) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${hive.outbox.poll-interval-ms:200}")
+    public void drain() {
+        try {
+            // Keep going while batches come back full so a backlog drains at batch speed
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (Exception e) {
+            log.error("Outbox relay failed, will retry on next poll: {}", e.getMessage(), e);
+        }
+    }
+
+    public int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(batchSize);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            eventPublisher.publishEmployeeEvents(batch.stream().map(OutboxEvent::toEvent).toList());
+            outboxEventRepository.deleteAllByIdInBatch(batch.stream().map(OutboxEvent::getId).toList());
+
+            log.debug("Relayed {} outbox events", batch.size());
+            return batch.size();
+        });
+        return relayed != null ? relayed : 0;
+    }
+}
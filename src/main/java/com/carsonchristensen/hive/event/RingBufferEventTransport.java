@@ -0,0 +1,294 @@
+package com.carsonchristensen.hive.event;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * In-process transport for running without a broker (local development, single-node installs).
+ * Events go into a fixed-size ring of pre-allocated slots: producers claim a range of sequences
+ * with one CAS, fill the slots and mark each one published; a single consumer thread hands every
+ * contiguous run of published slots (up to batchSize) to the handler as one List, the same shape
+ * the AMQP batch listener delivers. When the ring is full, producers wait for the consumer to free
+ * slots instead of growing a queue.
+ *
+ * A batch the handler rejects is retried with a capped backoff until it succeeds, never dropped:
+ * the outbox rows are already gone by then. While it is retried the ring fills up and publish()
+ * blocks, which holds the outbox relay (and its rows) back until the handler recovers.
+ *
+ * Events only live in memory: the outbox rows are deleted once publish() returns, so anything still
+ * in the ring when the process dies is lost. Use the amqp transport where that matters.
+ */
+@Slf4j
+public class RingBufferEventTransport implements EventTransport, AutoCloseable {
+
+    // How an idle consumer (or a producer facing a full ring) waits. Lower latency costs more CPU.
+    public enum WaitStrategy {
+        // Park on a condition until signalled; no CPU while idle, a wake-up on every hand-off
+        BLOCKING,
+        // Spin, then yield, then park for short intervals; low CPU with sub-millisecond latency
+        SLEEPING,
+        // Spin, then yield the core; low latency, keeps a core busy while idle
+        YIELDING,
+        // Never gives up the core; lowest latency, needs a dedicated core
+        BUSY_SPIN
+    }
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    // A bounded wait, so a missed signal costs at most this much latency
+    private static final long BLOCKING_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long INITIAL_RETRY_BACKOFF_MS = 50;
+    private static final long MAX_RETRY_BACKOFF_MS = 10_000;
+    // Past the first failure, only every Nth retry is logged, so an outage doesn't flood the log
+    private static final int RETRY_LOG_EVERY = 10;
+
+    private final EmployeeEvent[] slots;
+    private final int mask;
+    // Sequence written into each slot once its event is visible; the consumer reads it to find the end of a run
+    private final AtomicLongArray published;
+    // Highest claimed sequence
+    private final AtomicLong cursor = new AtomicLong(-1);
+    // Highest sequence handed to the handler; gates producers from wrapping onto unread slots
+    private volatile long consumed = -1;
+
+    private final int batchSize;
+    private final WaitStrategy waitStrategy;
+    private final Consumer<List<EmployeeEvent>> handler;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final AtomicInteger blockedWaiters = new AtomicInteger();
+    // Producers inside publish(); the consumer only stops once none are left, so a publish that
+    // got past the running check before close() is still drained instead of returning into a dead ring
+    private final AtomicInteger activeProducers = new AtomicInteger();
+    private final Thread consumerThread;
+    private volatile boolean running = true;
+
+    public RingBufferEventTransport(int capacity, int batchSize, WaitStrategy waitStrategy,
+                                    Consumer<List<EmployeeEvent>> handler) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring buffer capacity must be a power of two, got " + capacity);
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Ring buffer batch size must be positive, got " + batchSize);
+        }
+        this.slots = new EmployeeEvent[capacity];
+        this.mask = capacity - 1;
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        this.batchSize = batchSize;
+        this.waitStrategy = waitStrategy;
+        this.handler = handler;
+        // A platform thread: the spinning strategies must not pin a virtual thread's carrier
+        this.consumerThread = Thread.ofPlatform().name("hive-event-ring").daemon(true).start(this::consume);
+    }
+
+    // Enqueueing is the hand-off, so the future is already complete when it is returned
+    @Override
+    public CompletableFuture<Void> publishAsync(List<EmployeeEvent> events) {
+        publish(events);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public void publish(List<EmployeeEvent> events) {
+        // Registered before claim() checks running: see the consumer's exit condition
+        activeProducers.incrementAndGet();
+        try {
+            // A batch larger than the ring is published in ring-sized pieces
+            for (int from = 0; from < events.size(); from += slots.length) {
+                List<EmployeeEvent> chunk = events.subList(from, Math.min(events.size(), from + slots.length));
+                long last = claim(chunk.size());
+                long first = last - chunk.size() + 1;
+                for (int i = 0; i < chunk.size(); i++) {
+                    long sequence = first + i;
+                    int index = (int) (sequence & mask);
+                    slots[index] = chunk.get(i);
+                    published.set(index, sequence);
+                }
+                signal();
+            }
+        } finally {
+            activeProducers.decrementAndGet();
+            if (!running) {
+                signal();
+            }
+        }
+    }
+
+    // Events published but not yet handed to the handler
+    public long depth() {
+        return Math.max(0, cursor.get() - consumed);
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    // Stops accepting events, lets the consumer drain what is already in the ring (and what a publish()
+    // racing with this call still puts there), then stops it
+    @Override
+    public void close() {
+        running = false;
+        signal();
+        // Cuts short a retry backoff, so a failing batch doesn't hold up shutdown
+        LockSupport.unpark(consumerThread);
+        try {
+            consumerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (depth() > 0) {
+            log.warn("Event ring closed with {} events not handled", depth());
+        }
+    }
+
+    private long claim(int count) {
+        while (true) {
+            if (!running) {
+                throw new IllegalStateException("Event ring buffer is closed");
+            }
+            long current = cursor.get();
+            long next = current + count;
+            long wrapPoint = next - slots.length;
+            if (wrapPoint > consumed) {
+                // Full: wait for the consumer to move past the slots this claim would overwrite
+                await(() -> wrapPoint <= consumed || !running);
+                continue;
+            }
+            if (cursor.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    private void consume() {
+        List<EmployeeEvent> batch = new ArrayList<>(batchSize);
+        while (true) {
+            long next = consumed + 1;
+            // Read in this order: a producer that registers after we see none has to see running == false
+            // and fail its claim, and one that already left publish() has advanced the cursor
+            await(() -> published.get((int) (next & mask)) == next
+                    || (!running && activeProducers.get() == 0 && cursor.get() < next));
+            if (published.get((int) (next & mask)) != next) {
+                return; // closed and drained
+            }
+
+            // Take the contiguous published run; a slower producer's unfilled slot ends it
+            long last = next;
+            while (last - next + 1 < batchSize && published.get((int) ((last + 1) & mask)) == last + 1) {
+                last++;
+            }
+            for (long sequence = next; sequence <= last; sequence++) {
+                int index = (int) (sequence & mask);
+                batch.add(slots[index]);
+                slots[index] = null;
+            }
+
+            handle(batch);
+            batch.clear();
+            consumed = last;
+            signal();
+        }
+    }
+
+    // Retries a failed batch with a capped backoff until the handler takes it, as a broker would
+    // keep redelivering it. Once the ring is closed a failing batch is given up on, like one lost
+    // with the process, so shutdown isn't held up by a handler that can no longer succeed.
+    private void handle(List<EmployeeEvent> batch) {
+        List<EmployeeEvent> events = List.copyOf(batch);
+        long backoffMs = INITIAL_RETRY_BACKOFF_MS;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                handler.accept(events);
+                if (attempt > 1) {
+                    log.info("Handled {} employee events after {} attempts", events.size(), attempt);
+                }
+                return;
+            } catch (RuntimeException e) {
+                if (!running) {
+                    log.error("Event ring closed, dropping batch of {} employee events after {} attempts",
+                            events.size(), attempt, e);
+                    return;
+                }
+                if (attempt == 1) {
+                    log.warn("Handling {} employee events failed, retrying until it succeeds", events.size(), e);
+                } else if (attempt % RETRY_LOG_EVERY == 0) {
+                    log.warn("Handling {} employee events still failing (attempt {}), next retry in {}ms: {}",
+                            events.size(), attempt, backoffMs, e.getMessage());
+                }
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(backoffMs));
+                backoffMs = Math.min(MAX_RETRY_BACKOFF_MS, backoffMs * 2);
+            }
+        }
+    }
+
+    private void await(BooleanSupplier ready) {
+        int tries = 0;
+        while (!ready.getAsBoolean()) {
+            switch (waitStrategy) {
+                case BUSY_SPIN -> Thread.onSpinWait();
+                case YIELDING -> {
+                    if (tries++ < SPIN_TRIES) {
+                        Thread.onSpinWait();
+                    } else {
+                        Thread.yield();
+                    }
+                }
+                case SLEEPING -> {
+                    if (tries < SPIN_TRIES) {
+                        Thread.onSpinWait();
+                    } else if (tries < SPIN_TRIES + YIELD_TRIES) {
+                        Thread.yield();
+                    } else {
+                        LockSupport.parkNanos(SLEEP_NANOS);
+                    }
+                    tries++;
+                }
+                case BLOCKING -> awaitSignal(ready);
+            }
+        }
+    }
+
+    private void awaitSignal(BooleanSupplier ready) {
+        lock.lock();
+        try {
+            // Registered before the re-check, so a signal() after this point sees the waiter
+            blockedWaiters.incrementAndGet();
+            if (!ready.getAsBoolean()) {
+                changed.awaitNanos(BLOCKING_WAIT_NANOS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            blockedWaiters.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    // Only the blocking strategy sleeps on the condition; the others poll and need no wake-up
+    private void signal() {
+        if (waitStrategy == WaitStrategy.BLOCKING && blockedWaiters.get() > 0) {
+            lock.lock();
+            try {
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.carsonchristensen.hive.listener;
+
+import com.carsonchristensen.hive.config.RabbitMQConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Grows or shrinks the termination listener's consumers between a min and a max.
+ * Scales up on backlog while batches are still fast, scales down when idle, and
+ * backs off whenever the Hikari pool has threads waiting for a connection.
+ * Every decision is counted under hive.listener.scaling.decisions{action,reason}.
+ *
+ * Each consumer holds one connection per termination effect while its batch runs, so the max is
+ * capped by the Hikari pool: what is left after pool-reserve (retry listeners, outbox relay,
+ * stats reconciler, HTTP) divided by the effects per batch. Left unset, max-consumers defaults to
+ * that cap; set above it, startup fails rather than the pool running dry under a backlog.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "hive.listener.autoscale.enabled", havingValue = "true", matchIfMissing = true)
+public class ListenerConcurrencyController {
+
+    private final RabbitListenerEndpointRegistry listenerRegistry;
+    private final AmqpAdmin amqpAdmin;
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final int minConsumers;
+    private final int maxConsumers;
+    private final long backlogPerConsumer;
+    private final double targetP99Ms;
+
+    private final AtomicInteger consumers = new AtomicInteger();
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong batchP99Ms = new AtomicLong();
+
+    public ListenerConcurrencyController(RabbitListenerEndpointRegistry listenerRegistry,
+                                         AmqpAdmin amqpAdmin,
+                                         DataSource dataSource,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${hive.listener.autoscale.min-consumers:1}") int minConsumers,
+                                         @Value("${hive.listener.autoscale.max-consumers:0}") int maxConsumers,
+                                         @Value("${hive.listener.autoscale.pool-reserve:8}") int poolReserve,
+                                         @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                                         @Value("${hive.listener.autoscale.backlog-per-consumer:500}") long backlogPerConsumer,
+                                         @Value("${hive.listener.autoscale.target-p99-ms:500}") double targetP99Ms) {
+        this.listenerRegistry = listenerRegistry;
+        this.amqpAdmin = amqpAdmin;
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.minConsumers = minConsumers;
+        this.maxConsumers = resolveMaxConsumers(minConsumers, maxConsumers, poolSize, poolReserve);
+        this.backlogPerConsumer = backlogPerConsumer;
+        this.targetP99Ms = targetP99Ms;
+
+        Gauge.builder("hive.listener.consumers", consumers, AtomicInteger::get)
+                .description("Current consumer count of the termination listener")
+                .register(meterRegistry);
+        Gauge.builder("hive.listener.queue.depth", queueDepth, AtomicLong::get)
+                .description("Ready messages in " + RabbitMQConfig.QUEUE_NAME + " at the last sample")
+                .register(meterRegistry);
+        Gauge.builder("hive.listener.batch.p99", batchP99Ms, AtomicLong::get)
+                .description("Batch processing p99 (ms) at the last sample")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    // 0 (unset) takes the most consumers the pool can serve; anything above that is a misconfiguration
+    static int resolveMaxConsumers(int minConsumers, int maxConsumers, int poolSize, int poolReserve) {
+        int connectionsPerConsumer = TerminationEffect.values().length;
+        int poolCap = (poolSize - poolReserve) / connectionsPerConsumer;
+        if (poolCap < 1) {
+            throw new IllegalStateException("spring.datasource.hikari.maximum-pool-size=" + poolSize
+                    + " leaves no connections for listener consumers after hive.listener.autoscale.pool-reserve="
+                    + poolReserve);
+        }
+        int resolved = maxConsumers > 0 ? maxConsumers : poolCap;
+        if (resolved > poolCap) {
+            throw new IllegalStateException("hive.listener.autoscale.max-consumers=" + maxConsumers + " needs up to "
+                    + (resolved * connectionsPerConsumer + poolReserve) + " connections (" + connectionsPerConsumer
+                    + " per consumer + pool-reserve " + poolReserve + ") but spring.datasource.hikari.maximum-pool-size="
+                    + poolSize + "; lower it to " + poolCap + " or less, or grow the pool");
+        }
+        if (minConsumers < 1 || minConsumers > resolved) {
+            throw new IllegalStateException("hive.listener.autoscale.min-consumers must be between 1 and max-consumers ("
+                    + resolved + ")");
+        }
+        return resolved;
+    }
+
+    @Scheduled(fixedDelayString = "${hive.listener.autoscale.interval-ms:5000}")
+    public void adjust() {
+        SimpleMessageListenerContainer container = container();
+        if (container == null || !container.isRunning()) {
+            return;
+        }
+
+        QueueInformation queue;
+        try {
+            queue = amqpAdmin.getQueueInfo(RabbitMQConfig.QUEUE_NAME);
+        } catch (Exception e) {
+            log.debug("Skipping scaling decision, queue depth unavailable: {}", e.getMessage());
+            return;
+        }
+        if (queue == null) {
+            return;
+        }
+
+        int current = consumers.updateAndGet(ignored -> activeConsumers(container));
+        long depth = queue.getMessageCount();
+        double p99 = batchP99Millis();
+        queueDepth.set(depth);
+        batchP99Ms.set(Math.round(p99));
+
+        int target = current;
+        String action;
+        String reason;
+        if (poolSaturated()) {
+            // More consumers would only queue up on the pool
+            target = Math.max(minConsumers, current - 1);
+            action = target < current ? "scale_down" : "hold";
+            reason = "db_pool_saturated";
+        } else if (depth > backlogPerConsumer * current) {
+            if (p99 <= targetP99Ms) {
+                target = Math.min(maxConsumers, current + 1);
+                action = target > current ? "scale_up" : "hold";
+                reason = target > current ? "backlog" : "at_max";
+            } else {
+                // Batches are already slow: adding consumers would add contention, not throughput
+                action = "hold";
+                reason = "latency_above_target";
+            }
+        } else if (depth == 0 && current > minConsumers) {
+            target = current - 1;
+            action = "scale_down";
+            reason = "idle";
+        } else {
+            action = "hold";
+            reason = "steady";
+        }
+
+        Counter.builder("hive.listener.scaling.decisions")
+                .description("Scaling decisions taken by the listener concurrency controller")
+                .tag("action", action)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+
+        if (target != current) {
+            container.setConcurrentConsumers(target);
+            consumers.set(target);
+            log.info("Listener consumers {} -> {} ({}: depth={}, p99={}ms)", current, target, reason, depth, Math.round(p99));
+        }
+    }
+
+    private SimpleMessageListenerContainer container() {
+        MessageListenerContainer container = listenerRegistry.getListenerContainer(TerminationEventListener.LISTENER_ID);
+        return container instanceof SimpleMessageListenerContainer simple ? simple : null;
+    }
+
+    private int activeConsumers(SimpleMessageListenerContainer container) {
+        int active = container.getActiveConsumerCount();
+        return Math.max(minConsumers, Math.min(maxConsumers, active));
+    }
+
+    private double batchP99Millis() {
+        Timer timer = meterRegistry.find(TerminationEventListener.BATCH_TIMER).timer();
+        if (timer == null) {
+            return 0;
+        }
+        for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.99) {
+                return percentile.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+
+    private boolean poolSaturated() {
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return false;
+            }
+            HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+            return pool != null && pool.getThreadsAwaitingConnection() > 0;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+}
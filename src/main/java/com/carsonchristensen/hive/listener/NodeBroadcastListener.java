@@ -0,0 +1,28 @@
+package com.carsonchristensen.hive.listener;
+
+import com.carsonchristensen.hive.event.EmployeeUpdate;
+import com.carsonchristensen.hive.service.EmployeeCacheInvalidator;
+import com.carsonchristensen.hive.service.EmployeeUpdateStreams;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Consumes this node's private broadcast queue (every node gets every message)
+@Component
+@RequiredArgsConstructor
+public class NodeBroadcastListener {
+
+    private final EmployeeCacheInvalidator cacheInvalidator;
+    private final EmployeeUpdateStreams employeeUpdateStreams;
+
+    @RabbitListener(queues = "#{nodeQueue.name}", concurrency = "1")
+    public void handleEmployeeUpdates(List<EmployeeUpdate> updates) {
+        for (EmployeeUpdate update : updates) {
+            // Evict before notifying, so the refetch an SSE client makes sees fresh data
+            cacheInvalidator.evictLocal(update);
+            employeeUpdateStreams.deliver(update);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.carsonchristensen.hive.listener;
+
+import java.util.Arrays;
+
+/**
+ * IDs of recently processed events, kept in two generations of open-addressing long
+ * sets (no boxing, 16 bytes per slot at most half full). New IDs go into the current
+ * generation; when it fills up or its window has passed, it becomes the previous one
+ * and the old previous generation is cleared and reused. An ID is therefore remembered
+ * for at least one window, or for at least capacity newer IDs, whichever comes first.
+ * Memory stays fixed at two tables, whatever the traffic.
+ */
+class ProcessedEventWindow {
+
+    // Outbox IDs come from a sequence starting at 1
+    private static final long EMPTY = 0;
+
+    private final int capacity;
+    private final long windowNanos;
+    private final int mask;
+    private long[] current;
+    private long[] previous;
+    private int currentSize;
+    private int previousSize;
+    private long generationStartedAt;
+
+    ProcessedEventWindow(int capacity, long windowMillis) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Dedupe capacity must be positive, got " + capacity);
+        }
+        this.capacity = capacity;
+        this.windowNanos = windowMillis * 1_000_000;
+        int tableSize = Integer.highestOneBit(Math.max(2, capacity * 2 - 1)) << 1;
+        this.mask = tableSize - 1;
+        this.current = new long[tableSize];
+        this.previous = new long[tableSize];
+        this.generationStartedAt = System.nanoTime();
+    }
+
+    synchronized boolean contains(long eventId) {
+        return eventId != EMPTY && (contains(current, eventId) || contains(previous, eventId));
+    }
+
+    synchronized void add(long eventId) {
+        if (eventId == EMPTY || contains(current, eventId)) {
+            return;
+        }
+        if (currentSize >= capacity || System.nanoTime() - generationStartedAt >= windowNanos) {
+            rotate();
+        }
+        int slot = indexOf(eventId);
+        while (current[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        current[slot] = eventId;
+        currentSize++;
+    }
+
+    synchronized int size() {
+        return currentSize + previousSize;
+    }
+
+    private void rotate() {
+        long[] recycled = previous;
+        Arrays.fill(recycled, EMPTY);
+        previous = current;
+        current = recycled;
+        previousSize = currentSize;
+        currentSize = 0;
+        generationStartedAt = System.nanoTime();
+    }
+
+    private boolean contains(long[] table, long eventId) {
+        int slot = indexOf(eventId);
+        while (table[slot] != EMPTY) {
+            if (table[slot] == eventId) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    // Fibonacci hashing: sequential IDs spread over the table instead of filling one run
+    private int indexOf(long eventId) {
+        return (int) ((eventId * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+}
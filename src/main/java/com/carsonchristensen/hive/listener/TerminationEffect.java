@@ -0,0 +1,30 @@
+package com.carsonchristensen.hive.listener;
+
+import com.carsonchristensen.hive.config.RabbitMQConfig;
+
+// The side effects of a termination, each retried on its own after a failure
+enum TerminationEffect {
+
+    LOCK_DEVICES("lock_devices", RabbitMQConfig.DEVICE_RETRY_KEY),
+    REVOKE_APPS("revoke_apps", RabbitMQConfig.APP_RETRY_KEY);
+
+    // Value of the "effect" metric tag and of the effect header on dead letters
+    final String tag;
+    // Last segment of the retry routing key, which picks the effect's retry queue
+    final String retryKey;
+
+    TerminationEffect(String tag, String retryKey) {
+        this.tag = tag;
+        this.retryKey = retryKey;
+    }
+
+    // The effect a dead letter's effect header names, or null when it names none
+    static TerminationEffect ofRetryKey(String retryKey) {
+        for (TerminationEffect effect : values()) {
+            if (effect.retryKey.equals(retryKey)) {
+                return effect;
+            }
+        }
+        return null;
+    }
+}
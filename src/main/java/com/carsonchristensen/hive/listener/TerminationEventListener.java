@@ -2,48 +2,315 @@ package com.carsonchristensen.hive.listener;
 
 import com.carsonchristensen.hive.config.RabbitMQConfig;
 import com.carsonchristensen.hive.event.EmployeeEvent;
+import com.carsonchristensen.hive.event.EventTracing;
 import com.carsonchristensen.hive.service.AppAccessService;
 import com.carsonchristensen.hive.service.DeviceService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class TerminationEventListener {
 
+    public static final String LISTENER_ID = "terminationListener";
+    public static final String BATCH_TIMER = "hive.listener.batch.duration";
+    // From the terminate request (EmployeeEvent.timestamp) until devices are locked and apps revoked
+    public static final String END_TO_END_TIMER = "hive.termination.end-to-end";
+    public static final String DEVICE_RETRY_LISTENER_ID = "deviceRetryListener";
+    public static final String APP_RETRY_LISTENER_ID = "appRetryListener";
+
     private final DeviceService deviceService;
     private final AppAccessService appAccessService;
+    private final ExecutorService terminationEffectExecutor;
+    private final EventTracing eventTracing;
+    private final TerminationRetryPublisher retryPublisher;
+    private final Timer batchTimer;
+    private final ProcessedEventWindow processedEvents;
+    private final Counter duplicates;
+    private final MeterRegistry meterRegistry;
+    private final Timer dwellTimer;
+    private final Timer endToEndSuccess;
+    private final Timer endToEndFailure;
+    private final Map<TerminationEffect, Timer> recovered = new EnumMap<>(TerminationEffect.class);
+    private final Map<TerminationEffect, Timer> effectSuccess = new EnumMap<>(TerminationEffect.class);
+    private final Map<TerminationEffect, Timer> effectFailure = new EnumMap<>(TerminationEffect.class);
+    private final Map<TerminationEffect, DistributionSummary> effectRows = new EnumMap<>(TerminationEffect.class);
+
+    public TerminationEventListener(DeviceService deviceService,
+                                    AppAccessService appAccessService,
+                                    ExecutorService terminationEffectExecutor,
+                                    EventTracing eventTracing,
+                                    TerminationRetryPublisher retryPublisher,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${hive.listener.dedupe.capacity:100000}") int dedupeCapacity,
+                                    @Value("${hive.listener.dedupe.window-ms:600000}") long dedupeWindowMs) {
+        this.deviceService = deviceService;
+        this.appAccessService = appAccessService;
+        this.terminationEffectExecutor = terminationEffectExecutor;
+        this.eventTracing = eventTracing;
+        this.retryPublisher = retryPublisher;
+        this.meterRegistry = meterRegistry;
+        // p99 is read back by ListenerConcurrencyController to decide on scaling
+        this.batchTimer = Timer.builder(BATCH_TIMER)
+                .description("Time to process one batch of employee events")
+                .publishPercentiles(0.99)
+                .register(meterRegistry);
+        this.processedEvents = new ProcessedEventWindow(dedupeCapacity, dedupeWindowMs);
+        this.duplicates = Counter.builder("hive.listener.events.duplicates")
+                .description("Redelivered employee events skipped because they were already processed")
+                .register(meterRegistry);
+        Gauge.builder("hive.listener.dedupe.size", processedEvents, ProcessedEventWindow::size)
+                .description("Event IDs currently remembered by the dedupe window")
+                .register(meterRegistry);
+        // Outbox wait, relay and broker together; timestamps come from the API node's clock
+        this.dwellTimer = Timer.builder("hive.termination.dwell")
+                .description("Time from the terminate request until the listener receives the event")
+                .register(meterRegistry);
+        this.endToEndSuccess = endToEndTimer("success", meterRegistry);
+        this.endToEndFailure = endToEndTimer("failure", meterRegistry);
+        for (TerminationEffect effect : TerminationEffect.values()) {
+            recovered.put(effect, Timer.builder("hive.termination.recovered")
+                    .description("Time from the terminate request until a retried side effect succeeded")
+                    .tag("effect", effect.tag)
+                    .register(meterRegistry));
+            effectSuccess.put(effect, effectTimer(effect, "success", meterRegistry));
+            effectFailure.put(effect, effectTimer(effect, "failure", meterRegistry));
+            effectRows.put(effect, DistributionSummary.builder("hive.termination.effect.rows")
+                    .description("Rows one termination side effect updated for a batch")
+                    .tag("effect", effect.tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    private static Timer endToEndTimer(String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder(END_TO_END_TIMER)
+                .description("Time from the terminate request until devices are locked and app access revoked")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static Timer effectTimer(TerminationEffect effect, String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder("hive.termination.effect.duration")
+                .description("Time one termination side effect takes for a batch")
+                .tag("effect", effect.tag)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @RabbitListener(id = LISTENER_ID, queues = RabbitMQConfig.QUEUE_NAME)
+    public void handleEmployeeEvents(List<EmployeeEvent> events) {
+        // Redeliveries (broker failover, relay retry after a lost confirm) stop here, before any DB work
+        List<EmployeeEvent> fresh = new ArrayList<>(events.size());
+        for (EmployeeEvent event : events) {
+            if (event.eventId() != null && processedEvents.contains(event.eventId())) {
+                duplicates.increment();
+            } else {
+                fresh.add(event);
+            }
+        }
+        if (fresh.isEmpty()) {
+            log.debug("Skipped batch of {} already processed employee events", events.size());
+            return;
+        }
+
+        // Continues the publishing request's trace, so these log lines carry its trace ID
+        Span span = eventTracing.consumerSpan("hive.termination.batch", fresh);
+        try (Tracer.SpanInScope ignored = eventTracing.inScope(span)) {
+            batchTimer.record(() -> processBatch(fresh, span));
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+
+        // Remembered only once handled, so a batch that throws is processed again on redelivery
+        for (EmployeeEvent event : fresh) {
+            if (event.eventId() != null) {
+                processedEvents.add(event.eventId());
+            }
+        }
+    }
+
+    private void processBatch(List<EmployeeEvent> events, Span batchSpan) {
+        log.info("Received batch of {} employee events", events.size());
+
+        // Coalesce the batch: redeliveries and repeated terminations collapse to one ID each
+        Instant received = Instant.now();
+        Set<Long> terminatedIds = new LinkedHashSet<>();
+        List<EmployeeEvent> terminations = new ArrayList<>(events.size());
+        for (EmployeeEvent event : events) {
+            if (event.type().equalsIgnoreCase("TERMINATED")) {
+                terminatedIds.add(event.employeeId());
+                terminations.add(event);
+                dwellTimer.record(sinceRequest(event, received));
+            } else {
+                log.debug("Ignoring event type: {} for employee {}", event.type(), event.employeeId());
+            }
+        }
+
+        if (terminatedIds.isEmpty()) {
+            return;
+        }
+        log.info("Processing TERMINATED events for employees {}", terminatedIds);
 
-    @RabbitListener(queues = RabbitMQConfig.QUEUE_NAME)
-    public void handleEmployeeEvent(EmployeeEvent event) {
-        log.info("Received employee event: type={}, employeeId={}, timestamp={}", 
-                event.type(), event.employeeId(), event.timestamp());
-
-        if (event.type().equalsIgnoreCase("TERMINATED")) {
-            log.info("Processing TERMINATED event for employee {}", event.employeeId());
-            
-            // Lock all devices for the terminated employee
-            try {
-                deviceService.lockDevicesForEmployee(event.employeeId());
-                log.info("Successfully locked devices for terminated employee {}", event.employeeId());
-            } catch (Exception e) {
-                log.error("Error locking devices for employee {}: {}", event.employeeId(), e.getMessage(), e);
+        // The side effects are independent: run them concurrently and wait for both
+        // before returning, so the batch is only acked once both have finished.
+        CompletableFuture<Boolean> lockDevices = CompletableFuture.supplyAsync(
+                () -> lockDevices(terminatedIds, batchSpan), terminationEffectExecutor);
+        CompletableFuture<Boolean> revokeApps = CompletableFuture.supplyAsync(
+                () -> revokeApps(terminatedIds, batchSpan), terminationEffectExecutor);
+        CompletableFuture.allOf(lockDevices, revokeApps).join();
+
+        // A failed effect is handed to its retry queue, so the batch is still acked and the
+        // consumer moves on; the other effect is not repeated
+        if (!lockDevices.join()) {
+            retryLater(TerminationEffect.LOCK_DEVICES, terminations);
+        }
+        if (!revokeApps.join()) {
+            retryLater(TerminationEffect.REVOKE_APPS, terminations);
+        }
+
+        // The promise to security: every termination in the batch is now fully enforced (or being retried)
+        Instant done = Instant.now();
+        Timer endToEnd = lockDevices.join() && revokeApps.join() ? endToEndSuccess : endToEndFailure;
+        terminations.forEach(event -> endToEnd.record(sinceRequest(event, done)));
+    }
+
+    @RabbitListener(id = DEVICE_RETRY_LISTENER_ID, queues = RabbitMQConfig.DEVICE_RETRY_QUEUE, concurrency = "1")
+    public void retryLockDevices(List<Message<EmployeeEvent>> messages) {
+        retryEffect(TerminationEffect.LOCK_DEVICES, messages);
+    }
+
+    @RabbitListener(id = APP_RETRY_LISTENER_ID, queues = RabbitMQConfig.APP_RETRY_QUEUE, concurrency = "1")
+    public void retryRevokeApps(List<Message<EmployeeEvent>> messages) {
+        retryEffect(TerminationEffect.REVOKE_APPS, messages);
+    }
+
+    // Runs one effect again for events whose backoff has elapsed; what still fails goes one step
+    // further down the backoff, or to the dead-letter queue after the last step
+    private void retryEffect(TerminationEffect effect, List<Message<EmployeeEvent>> messages) {
+        List<EmployeeEvent> events = messages.stream().map(Message::getPayload).toList();
+        Span span = eventTracing.consumerSpan("hive.termination.retry", events);
+        try (Tracer.SpanInScope ignored = eventTracing.inScope(span)) {
+            Set<Long> employeeIds = new LinkedHashSet<>();
+            events.forEach(event -> employeeIds.add(event.employeeId()));
+            boolean succeeded = effect == TerminationEffect.LOCK_DEVICES
+                    ? lockDevices(employeeIds, span)
+                    : revokeApps(employeeIds, span);
+
+            if (succeeded) {
+                Instant done = Instant.now();
+                Timer recoveredTimer = recovered.get(effect);
+                events.forEach(event -> recoveredTimer.record(sinceRequest(event, done)));
+                return;
             }
-            
-            // Revoke all app access for the terminated employee
-            try {
-                appAccessService.revokeAllForEmployee(event.employeeId());
-                log.info("Successfully revoked app access for terminated employee {}", event.employeeId());
-            } catch (Exception e) {
-                log.error("Error revoking app access for employee {}: {}", event.employeeId(), e.getMessage(), e);
+
+            // Messages in one batch can be on different attempts
+            Map<Integer, List<EmployeeEvent>> byAttempt = new TreeMap<>();
+            for (Message<EmployeeEvent> message : messages) {
+                int attempt = message.getHeaders().get(TerminationRetryPublisher.ATTEMPT_HEADER) instanceof Number number
+                        ? number.intValue() : 0;
+                byAttempt.computeIfAbsent(attempt, key -> new ArrayList<>()).add(message.getPayload());
             }
-        } else {
-            log.debug("Ignoring event type: {} for employee {}", event.type(), event.employeeId());
+            byAttempt.forEach((attempt, failed) -> {
+                if (attempt >= retryPublisher.maxAttempts()) {
+                    retryPublisher.deadLetter(effect, failed, attempt);
+                } else {
+                    retryPublisher.retry(effect, failed, attempt + 1);
+                }
+            });
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
         }
     }
+
+    private void retryLater(TerminationEffect effect, List<EmployeeEvent> terminations) {
+        Map<Long, EmployeeEvent> byEmployee = new LinkedHashMap<>();
+        terminations.forEach(event -> byEmployee.putIfAbsent(event.employeeId(), event));
+        if (!retryPublisher.isEnabled()) {
+            // No delay queues without the broker: fail the batch, and the in-process transport redelivers it
+            throw new IllegalStateException(effect.tag + " failed for employees " + byEmployee.keySet());
+        }
+        retryPublisher.retry(effect, List.copyOf(byEmployee.values()), 1);
+    }
+
+    // Lock all devices for the terminated employees
+    private boolean lockDevices(Set<Long> employeeIds, Span batchSpan) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Span span = eventTracing.childSpan(batchSpan, "hive.termination.lock-devices");
+        try (Tracer.SpanInScope ignored = eventTracing.inScope(span)) {
+            int locked = deviceService.lockDevicesForEmployees(employeeIds);
+            recordEffect(sample, TerminationEffect.LOCK_DEVICES, true, locked);
+            span.tag("hive.rows", String.valueOf(locked));
+            log.info("Successfully locked devices for {} terminated employees", employeeIds.size());
+            return true;
+        } catch (Exception e) {
+            recordEffect(sample, TerminationEffect.LOCK_DEVICES, false, 0);
+            span.error(e);
+            log.error("Error locking devices for employees {}: {}", employeeIds, e.getMessage(), e);
+            return false;
+        } finally {
+            span.end();
+        }
+    }
+
+    // Revoke all app access for the terminated employees
+    private boolean revokeApps(Set<Long> employeeIds, Span batchSpan) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Span span = eventTracing.childSpan(batchSpan, "hive.termination.revoke-apps");
+        try (Tracer.SpanInScope ignored = eventTracing.inScope(span)) {
+            int revoked = appAccessService.revokeAllForEmployees(employeeIds);
+            recordEffect(sample, TerminationEffect.REVOKE_APPS, true, revoked);
+            span.tag("hive.rows", String.valueOf(revoked));
+            log.info("Successfully revoked app access for {} terminated employees", employeeIds.size());
+            return true;
+        } catch (Exception e) {
+            recordEffect(sample, TerminationEffect.REVOKE_APPS, false, 0);
+            span.error(e);
+            log.error("Error revoking app access for employees {}: {}", employeeIds, e.getMessage(), e);
+            return false;
+        } finally {
+            span.end();
+        }
+    }
+
+    private void recordEffect(Timer.Sample sample, TerminationEffect effect, boolean succeeded, int rows) {
+        sample.stop((succeeded ? effectSuccess : effectFailure).get(effect));
+        effectRows.get(effect).record(rows);
+    }
+
+    // Clamped at zero: the event was stamped on the API node, whose clock may run ahead of this one
+    private static Duration sinceRequest(EmployeeEvent event, Instant now) {
+        Duration elapsed = Duration.between(event.timestamp(), now);
+        return elapsed.isNegative() ? Duration.ZERO : elapsed;
+    }
 }
 
 
@@ -0,0 +1,216 @@
+package com.carsonchristensen.hive.listener;
+
+import com.carsonchristensen.hive.config.RabbitMQConfig;
+import com.carsonchristensen.hive.event.EmployeeEvent;
+import com.carsonchristensen.hive.event.EventTracing;
+import com.carsonchristensen.hive.event.EventTransport;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.GetResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Moves failed termination side effects off the main queue. A failed effect is republished,
+ * one message per employee, into a delay queue whose TTL is the backoff for that attempt
+ * (initial interval x multiplier^n); when the TTL runs out the broker dead-letters it into the
+ * effect's retry queue. After max-attempts retries the message is parked in the dead-letter
+ * queue, from where replayDeadLetters() sends everything back for a fresh round.
+ *
+ * Every send waits for its publisher confirm, so the listener only acks a failed batch once
+ * the retry is safely on the broker.
+ */
+@Slf4j
+@Component
+public class TerminationRetryPublisher {
+
+    public static final String ATTEMPT_HEADER = "x-hive-retry-attempt";
+    public static final String EFFECT_HEADER = "x-hive-effect";
+    private static final String REPLAY_ROUTING_PREFIX = "replay.";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final boolean brokerBacked;
+    private final List<Long> delaysMs;
+    private final long confirmTimeoutMs;
+    private final Map<TerminationEffect, Counter> retries = new EnumMap<>(TerminationEffect.class);
+    private final Map<TerminationEffect, Counter> deadLettered = new EnumMap<>(TerminationEffect.class);
+
+    public TerminationRetryPublisher(RabbitTemplate rabbitTemplate,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${" + EventTransport.PROPERTY + ":" + EventTransport.AMQP + "}") String eventTransport,
+                                     @Value("${hive.listener.retry.max-attempts:5}") int maxAttempts,
+                                     @Value("${hive.listener.retry.initial-interval-ms:1000}") long initialIntervalMs,
+                                     @Value("${hive.listener.retry.multiplier:4}") double multiplier,
+                                     @Value("${hive.outbox.confirm-timeout-ms:5000}") long confirmTimeoutMs) {
+        if (maxAttempts < 1 || initialIntervalMs < 1 || multiplier < 1) {
+            throw new IllegalArgumentException("Termination retries need max-attempts >= 1, initial-interval-ms >= 1"
+                    + " and multiplier >= 1");
+        }
+        this.rabbitTemplate = rabbitTemplate;
+        this.brokerBacked = EventTransport.AMQP.equals(eventTransport);
+        List<Long> delays = new ArrayList<>(maxAttempts);
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            delays.add(Math.round(initialIntervalMs * Math.pow(multiplier, attempt)));
+        }
+        this.delaysMs = List.copyOf(delays);
+        this.confirmTimeoutMs = confirmTimeoutMs;
+        for (TerminationEffect effect : TerminationEffect.values()) {
+            retries.put(effect, Counter.builder("hive.termination.retries")
+                    .description("Termination side effects scheduled for a delayed retry, per employee")
+                    .tag("effect", effect.tag)
+                    .register(meterRegistry));
+            deadLettered.put(effect, Counter.builder("hive.termination.dead-lettered")
+                    .description("Termination side effects moved to the dead-letter queue after the last retry")
+                    .tag("effect", effect.tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    // Without the broker there are no delay queues; the in-process transport redelivers the batch instead
+    public boolean isEnabled() {
+        return brokerBacked;
+    }
+
+    // Backoff per retry attempt, in ms; one delay queue is declared for each
+    public List<Long> delaysMs() {
+        return delaysMs;
+    }
+
+    public int maxAttempts() {
+        return delaysMs.size();
+    }
+
+    // Schedules retry number `attempt` (1-based) of the effect for these events
+    void retry(TerminationEffect effect, List<EmployeeEvent> events, int attempt) {
+        long delayMs = delaysMs.get(Math.min(attempt, delaysMs.size()) - 1);
+        String routingKey = RabbitMQConfig.retryDelayRoutingKey(delayMs, effect.retryKey);
+        send(RabbitMQConfig.RETRY_DELAY_EXCHANGE, routingKey, events, message -> {
+            message.getMessageProperties().setHeader(ATTEMPT_HEADER, attempt);
+            return message;
+        });
+        retries.get(effect).increment(events.size());
+        log.warn("{} failed for {} employees, retry {} of {} in {}ms", effect.tag, events.size(), attempt,
+                maxAttempts(), delayMs);
+    }
+
+    // Parks events whose effect still fails after the last retry
+    void deadLetter(TerminationEffect effect, List<EmployeeEvent> events, int attempts) {
+        send("", RabbitMQConfig.DEAD_LETTER_QUEUE, events, message -> {
+            message.getMessageProperties().setHeader(ATTEMPT_HEADER, attempts);
+            message.getMessageProperties().setHeader(EFFECT_HEADER, effect.retryKey);
+            return message;
+        });
+        deadLettered.get(effect).increment(events.size());
+        log.error("{} still failing for employees {} after {} retries, moved to {}", effect.tag,
+                events.stream().map(EmployeeEvent::employeeId).toList(), attempts, RabbitMQConfig.DEAD_LETTER_QUEUE);
+    }
+
+    public long deadLetterCount() {
+        requireBroker();
+        return rabbitTemplate.execute(channel -> channel.messageCount(RabbitMQConfig.DEAD_LETTER_QUEUE));
+    }
+
+    /**
+     * Sends every message currently in the dead-letter queue straight back to its effect's retry
+     * queue with the attempt count reset, and returns how many were moved. Each message is acked
+     * off the dead-letter queue only after the broker confirmed its copy, so a crash mid-replay
+     * can duplicate a message (harmless, the effects are idempotent) but not lose one. A message
+     * without a known effect header has no retry queue to go to and stays in the dead-letter queue.
+     */
+    public int replayDeadLetters() {
+        requireBroker();
+        return rabbitTemplate.execute(channel -> {
+            // Bounded by the depth at the start, in case replayed messages come back while this runs
+            long available = channel.messageCount(RabbitMQConfig.DEAD_LETTER_QUEUE);
+            int replayed = 0;
+            List<Long> skipped = new ArrayList<>();
+            GetResponse response;
+            while (replayed + skipped.size() < available
+                    && (response = channel.basicGet(RabbitMQConfig.DEAD_LETTER_QUEUE, false)) != null) {
+                long deliveryTag = response.getEnvelope().getDeliveryTag();
+                AMQP.BasicProperties properties = response.getProps();
+                Map<String, Object> headers = new HashMap<>(properties.getHeaders() != null
+                        ? properties.getHeaders() : Collections.emptyMap());
+                // Header values arrive as LongString, not String
+                Object effectHeader = headers.remove(EFFECT_HEADER);
+                TerminationEffect effect = effectHeader == null
+                        ? null : TerminationEffect.ofRetryKey(effectHeader.toString());
+                if (effect == null) {
+                    // No retry queue is bound for it: the broker would confirm the publish and drop the message
+                    log.warn("Dead letter {} has no known {} header ({}), leaving it in {}",
+                            properties.getMessageId(), EFFECT_HEADER, effectHeader, RabbitMQConfig.DEAD_LETTER_QUEUE);
+                    skipped.add(deliveryTag);
+                    continue;
+                }
+                headers.remove("x-death");
+                headers.put(ATTEMPT_HEADER, 0);
+                channel.basicPublish(RabbitMQConfig.RETRY_EXCHANGE, REPLAY_ROUTING_PREFIX + effect.retryKey,
+                        properties.builder().headers(headers).build(), response.getBody());
+                channel.waitForConfirmsOrDie(confirmTimeoutMs);
+                channel.basicAck(deliveryTag, false);
+                replayed++;
+            }
+            // Held unacked until now, so basicGet doesn't hand them straight back; requeued, they stay put
+            for (long deliveryTag : skipped) {
+                channel.basicNack(deliveryTag, false, true);
+            }
+            log.info("Replayed {} dead-lettered termination effects, left {} without a known effect",
+                    replayed, skipped.size());
+            return replayed;
+        });
+    }
+
+    private void send(String exchange, String routingKey, List<EmployeeEvent> events,
+                      MessagePostProcessor headers) {
+        List<CorrelationData> confirms = new ArrayList<>(events.size());
+        for (EmployeeEvent event : events) {
+            CorrelationData correlation = new CorrelationData();
+            rabbitTemplate.convertAndSend(exchange, routingKey, event, message -> {
+                // Keeps the retried work in the original request's trace
+                if (event.traceParent() != null) {
+                    message.getMessageProperties().setHeader(EventTracing.TRACEPARENT_HEADER, event.traceParent());
+                }
+                return headers.postProcessMessage(message);
+            }, correlation);
+            confirms.add(correlation);
+        }
+        try {
+            CompletableFuture.allOf(confirms.stream().map(CorrelationData::getFuture).toArray(CompletableFuture[]::new))
+                    .get(confirmTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmqpException("Interrupted waiting for confirms on " + routingKey, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new AmqpException("No confirm within " + confirmTimeoutMs + "ms for " + routingKey, e);
+        }
+        for (CorrelationData correlation : confirms) {
+            if (!correlation.getFuture().join().isAck()) {
+                throw new AmqpException("Broker nacked " + routingKey + ": " + correlation.getFuture().join().getReason());
+            }
+        }
+    }
+
+    private void requireBroker() {
+        if (!brokerBacked) {
+            throw new IllegalStateException("Termination retries and the dead-letter queue need the "
+                    + EventTransport.AMQP + " event transport");
+        }
+    }
+}
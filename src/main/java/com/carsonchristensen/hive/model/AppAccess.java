@@ -6,7 +6,8 @@ import lombok.*;
 
 @Entity
 @Table(name = "app_accesses", indexes = {
-    @Index(name = "idx_app_access_employee", columnList = "employee_id")
+    @Index(name = "idx_app_access_employee", columnList = "employee_id"),
+    @Index(name = "idx_app_access_status_role", columnList = "status, role, id")
 })
 @Getter
 @Setter
@@ -16,7 +17,8 @@ import lombok.*;
 public class AppAccess {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "app_access_seq")
+    @SequenceGenerator(name = "app_access_seq", sequenceName = "app_accesses_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -29,7 +31,8 @@ public class AppAccess {
     @Column(nullable = false)
     private String role;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    // LAZY: list endpoints read AppAccessView projections instead of this association
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id")
     @JsonIgnoreProperties({"devices", "appAccesses"})
     private Employee employee;
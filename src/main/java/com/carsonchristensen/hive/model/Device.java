@@ -7,7 +7,8 @@ import lombok.*;
 @Entity
 @Table(name = "devices", indexes = {
     @Index(name = "idx_device_serial", columnList = "serialNumber"),
-    @Index(name = "idx_device_employee", columnList = "employee_id")
+    @Index(name = "idx_device_employee", columnList = "employee_id"),
+    @Index(name = "idx_device_type_locked", columnList = "type, is_locked, id")
 })
 @Getter
 @Setter
@@ -17,7 +18,8 @@ import lombok.*;
 public class Device {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "device_seq")
+    @SequenceGenerator(name = "device_seq", sequenceName = "devices_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -31,7 +33,8 @@ public class Device {
     @Builder.Default
     private Boolean isLocked = false;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    // LAZY: list endpoints read DeviceView projections instead of this association
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id")
     @JsonIgnoreProperties({"devices", "appAccesses"})
     private Employee employee;
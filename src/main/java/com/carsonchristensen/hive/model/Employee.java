@@ -5,13 +5,21 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+// READ_WRITE: terminateEmployee's update replaces the cached entry on commit; bulk HQL updates
+// invalidate the region; changes made on other nodes are evicted through EmployeeCacheInvalidator
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "employees", indexes = {
-    @Index(name = "idx_employee_email", columnList = "email")
+    @Index(name = "idx_employee_email", columnList = "email"),
+    // Status / department filters, ID last so keyset pages read in index order
+    @Index(name = "idx_employee_status_department", columnList = "status, department, id")
 })
 @Getter
 @Setter
@@ -20,8 +28,11 @@ import java.util.List;
 @Builder
 public class Employee {
 
+    // Pooled sequence rather than IDENTITY: Hibernate can batch inserts only when it
+    // knows IDs before INSERT, and BulkImportService draws IDs from the same pool
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_seq")
+    @SequenceGenerator(name = "employee_seq", sequenceName = "employees_seq", allocationSize = 50)
     private Long id;
 
     @Email(message = "Email should be valid")
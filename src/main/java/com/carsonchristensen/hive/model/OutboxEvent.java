@@ -0,0 +1,49 @@
+package com.carsonchristensen.hive.model;
+
+import com.carsonchristensen.hive.event.EmployeeEvent;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    // Sequence (not IDENTITY) so Hibernate can batch the inserts of a bulk termination
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String eventType;
+
+    @Column(nullable = false)
+    private Long employeeId;
+
+    @Column(nullable = false)
+    private Instant occurredAt;
+
+    // W3C traceparent of the request, so the relay's publish continues its trace
+    @Column(length = 55)
+    private String traceParent;
+
+    public static OutboxEvent from(EmployeeEvent event) {
+        return OutboxEvent.builder()
+                .eventType(event.type())
+                .employeeId(event.employeeId())
+                .occurredAt(event.timestamp())
+                .traceParent(event.traceParent())
+                .build();
+    }
+
+    public EmployeeEvent toEvent() {
+        return new EmployeeEvent(id, eventType, employeeId, occurredAt, traceParent);
+    }
+}
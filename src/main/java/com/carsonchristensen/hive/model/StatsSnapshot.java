@@ -0,0 +1,33 @@
+package com.carsonchristensen.hive.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+// Last reconciled dashboard counts; a single row, so a restart can serve /api/stats without counting
+@Entity
+@Table(name = "stats_snapshot")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatsSnapshot {
+
+    public static final Long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    private long activeEmployees;
+    private long terminatedEmployees;
+    private long onboardingEmployees;
+    private long totalDevices;
+    private long lockedDevices;
+    private long totalAppAccesses;
+    private long revokedAppAccesses;
+
+    @Column(nullable = false)
+    private Instant reconciledAt;
+}
@@ -1,13 +1,56 @@
 package com.carsonchristensen.hive.repository;
 
+import com.carsonchristensen.hive.dto.AppAccessView;
+import com.carsonchristensen.hive.dto.AppLicenseCount;
 import com.carsonchristensen.hive.model.AppAccess;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface AppAccessRepository extends JpaRepository<AppAccess, Long> {
+public interface AppAccessRepository extends JpaRepository<AppAccess, Long>, AppAccessRepositoryCustom {
+
+    // Read-side projection: one join, only the columns the UI renders, no managed entities
+    String VIEW_QUERY = "select new com.carsonchristensen.hive.dto.AppAccessView("
+            + "a.id, a.appName, a.status, a.role, e.id, e.fullName, e.email) "
+            + "from AppAccess a left join a.employee e";
+
     List<AppAccess> findByEmployeeId(Long employeeId);
-}
 
+    long countByStatus(String status);
+
+    @Query(VIEW_QUERY + " order by a.id")
+    List<AppAccessView> findAllViews();
+
+    @Query(VIEW_QUERY + " where e.id = :employeeId order by a.id")
+    List<AppAccessView> findViewsByEmployeeId(@Param("employeeId") Long employeeId);
+
+    // Served from the partial idx_app_access_active index (status = 'ACTIVE') without touching the table
+    @Query("select new com.carsonchristensen.hive.dto.AppLicenseCount(a.appName, count(a)) "
+            + "from AppAccess a where a.status = 'ACTIVE' group by a.appName order by count(a) desc, a.appName")
+    List<AppLicenseCount> countActiveByAppName();
+
+    // Forward-only cursor for NDJSON streaming; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(VIEW_QUERY + " order by a.id")
+    Stream<AppAccessView> streamAllViews();
+
+    // Single set-based UPDATE instead of load + saveAll (one statement per row).
+    // Already-revoked grants are skipped so the count reflects real changes.
+    @Modifying
+    @Query("update AppAccess a set a.status = 'REVOKED' where a.employee.id = :employeeId and a.status <> 'REVOKED'")
+    int revokeAllByEmployeeId(@Param("employeeId") Long employeeId);
+
+    @Modifying
+    @Query("update AppAccess a set a.status = 'REVOKED' where a.employee.id in :employeeIds and a.status <> 'REVOKED'")
+    int revokeAllByEmployeeIdIn(@Param("employeeIds") Collection<Long> employeeIds);
+}
@@ -0,0 +1,13 @@
+package com.carsonchristensen.hive.repository;
+
+import com.carsonchristensen.hive.dto.AppAccessView;
+import com.carsonchristensen.hive.model.AppAccess;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface AppAccessRepositoryCustom {
+
+    // Same projection as AppAccessRepository.VIEW_QUERY, with a dynamic WHERE, ordered by ID
+    List<AppAccessView> findViews(Specification<AppAccess> spec, int limit);
+}
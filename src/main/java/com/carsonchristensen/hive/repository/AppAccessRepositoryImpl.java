@@ -0,0 +1,40 @@
+package com.carsonchristensen.hive.repository;
+
+import com.carsonchristensen.hive.dto.AppAccessView;
+import com.carsonchristensen.hive.model.AppAccess;
+import com.carsonchristensen.hive.model.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+class AppAccessRepositoryImpl implements AppAccessRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<AppAccessView> findViews(Specification<AppAccess> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AppAccessView> query = cb.createQuery(AppAccessView.class);
+        Root<AppAccess> a = query.from(AppAccess.class);
+        Join<AppAccess, Employee> e = a.join("employee", JoinType.LEFT);
+        query.select(cb.construct(AppAccessView.class,
+                a.get("id"), a.get("appName"), a.get("status"), a.get("role"),
+                e.get("id"), e.get("fullName"), e.get("email")));
+        // No filters and no cursor gives no predicate at all
+        Predicate predicate = spec.toPredicate(a, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(a.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
@@ -1,15 +1,52 @@
 package com.carsonchristensen.hive.repository;
 
+import com.carsonchristensen.hive.dto.DeviceView;
 import com.carsonchristensen.hive.model.Device;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface DeviceRepository extends JpaRepository<Device, Long> {
+public interface DeviceRepository extends JpaRepository<Device, Long>, DeviceRepositoryCustom {
+
+    // Read-side projection: one join, only the columns the UI renders, no managed entities
+    String VIEW_QUERY = "select new com.carsonchristensen.hive.dto.DeviceView("
+            + "d.id, d.serialNumber, d.type, d.isLocked, e.id, e.fullName, e.email) "
+            + "from Device d left join d.employee e";
+
     Optional<Device> findBySerialNumber(String serialNumber);
     List<Device> findByEmployeeId(Long employeeId);
-}
 
+    long countByIsLockedTrue();
+
+    @Query(VIEW_QUERY + " order by d.id")
+    List<DeviceView> findAllViews();
+
+    @Query(VIEW_QUERY + " where e.id = :employeeId order by d.id")
+    List<DeviceView> findViewsByEmployeeId(@Param("employeeId") Long employeeId);
+
+    // Forward-only cursor for NDJSON streaming; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(VIEW_QUERY + " order by d.id")
+    Stream<DeviceView> streamAllViews();
+
+    // Single set-based UPDATE instead of load + saveAll (one statement per row).
+    // Already-locked devices are skipped so the count reflects real changes.
+    @Modifying
+    @Query("update Device d set d.isLocked = true where d.employee.id = :employeeId and d.isLocked = false")
+    int lockAllByEmployeeId(@Param("employeeId") Long employeeId);
+
+    @Modifying
+    @Query("update Device d set d.isLocked = true where d.employee.id in :employeeIds and d.isLocked = false")
+    int lockAllByEmployeeIdIn(@Param("employeeIds") Collection<Long> employeeIds);
+}
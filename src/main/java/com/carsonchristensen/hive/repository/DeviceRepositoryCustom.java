@@ -0,0 +1,13 @@
+package com.carsonchristensen.hive.repository;
+
+import com.carsonchristensen.hive.dto.DeviceView;
+import com.carsonchristensen.hive.model.Device;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface DeviceRepositoryCustom {
+
+    // Same projection as DeviceRepository.VIEW_QUERY, with a dynamic WHERE, ordered by ID
+    List<DeviceView> findViews(Specification<Device> spec, int limit);
+}
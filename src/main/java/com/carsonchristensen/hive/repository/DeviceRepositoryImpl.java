@@ -0,0 +1,40 @@
+package com.carsonchristensen.hive.repository;
+
+import com.carsonchristensen.hive.dto.DeviceView;
+import com.carsonchristensen.hive.model.Device;
+import com.carsonchristensen.hive.model.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+class DeviceRepositoryImpl implements DeviceRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<DeviceView> findViews(Specification<Device> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<DeviceView> query = cb.createQuery(DeviceView.class);
+        Root<Device> d = query.from(Device.class);
+        Join<Device, Employee> e = d.join("employee", JoinType.LEFT);
+        query.select(cb.construct(DeviceView.class,
+                d.get("id"), d.get("serialNumber"), d.get("type"), d.get("isLocked"),
+                e.get("id"), e.get("fullName"), e.get("email")));
+        // No filters and no cursor gives no predicate at all
+        Predicate predicate = spec.toPredicate(d, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(d.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
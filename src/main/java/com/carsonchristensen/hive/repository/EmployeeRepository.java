@@ -1,13 +1,94 @@
 package com.carsonchristensen.hive.repository;
 
 import com.carsonchristensen.hive.model.Employee;
+import com.carsonchristensen.hive.model.EmployeeStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee> {
+    // Query cache: the result (the ID) is reused until the employees table changes, and the
+    // entity itself then comes from the second-level cache
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Employee> findByEmail(String email);
-}
 
+    // Email -> ID for a batch of import rows, one query per chunk
+    @Query("select e.id as id, e.email as email from Employee e where e.email in :emails")
+    List<EmployeeEmailView> findIdsByEmailIn(@Param("emails") Collection<String> emails);
+
+    // Forward-only cursor for NDJSON streaming; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select e from Employee e order by e.id")
+    Stream<Employee> streamAllOrderedById();
+
+    // Id + status only, row-locked so the bulk UPDATE that follows sees the same rows
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e.id as id, e.status as status from Employee e where e.id in :ids")
+    List<EmployeeStatusView> lockStatusesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e.id as id, e.status as status from Employee e where e.department = :department")
+    List<EmployeeStatusView> lockStatusesByDepartment(@Param("department") String department);
+
+    @Modifying
+    @Query("update Employee e set e.status = :status where e.id in :ids and e.status <> :status")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") EmployeeStatus status);
+
+    // Per-status headcount in one scan, used to reconcile the dashboard counters
+    @Query("select e.status as status, count(e) as total from Employee e group by e.status")
+    List<StatusCount> countByStatus();
+
+    // Employee, devices and apps in one round trip; rows are tagged E / D / A by kind
+    @Query(value = """
+            SELECT 'E' AS kind, e.id AS id, e.full_name AS name, e.email AS detail, CAST(e.status AS VARCHAR) AS status,
+                   e.department AS department, CAST(NULL AS BOOLEAN) AS locked
+              FROM employees e WHERE e.id = :employeeId
+            UNION ALL
+            SELECT 'D', d.id, d.serial_number, CAST(d.type AS VARCHAR), NULL, NULL, d.is_locked
+              FROM devices d WHERE d.employee_id = :employeeId
+            UNION ALL
+            SELECT 'A', a.id, a.app_name, a.role, a.status, NULL, NULL
+              FROM app_accesses a WHERE a.employee_id = :employeeId
+            ORDER BY kind, id
+            """, nativeQuery = true)
+    List<SummaryRow> findSummaryRows(@Param("employeeId") Long employeeId);
+
+    interface SummaryRow {
+        String getKind();
+        Long getId();
+        String getName();
+        String getDetail();
+        String getStatus();
+        String getDepartment();
+        Boolean getLocked();
+    }
+
+    interface StatusCount {
+        EmployeeStatus getStatus();
+        long getTotal();
+    }
+
+    interface EmployeeEmailView {
+        Long getId();
+        String getEmail();
+    }
+
+    interface EmployeeStatusView {
+        Long getId();
+        EmployeeStatus getStatus();
+    }
+}
@@ -0,0 +1,69 @@
+package com.carsonchristensen.hive.repository;
+
+import com.carsonchristensen.hive.dto.AppAccessFilter;
+import com.carsonchristensen.hive.dto.DeviceFilter;
+import com.carsonchristensen.hive.dto.EmployeeFilter;
+import com.carsonchristensen.hive.model.AppAccess;
+import com.carsonchristensen.hive.model.Device;
+import com.carsonchristensen.hive.model.Employee;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Locale;
+
+/**
+ * Builds the WHERE clause for filtered list pages. Only the filters that are set
+ * become predicates, so each combination gets a plain, index-friendly query
+ * instead of "(:x is null or col = :x)" branches. Always combined with the
+ * keyset condition id > after.
+ */
+public final class FilterSpecifications {
+
+    private FilterSpecifications() {
+    }
+
+    public static Specification<Employee> employees(EmployeeFilter filter, Long afterId) {
+        return Specification.<Employee>where(idAfter(afterId))
+                .and(equalTo("status", filter.status()))
+                .and(equalTo("department", blankToNull(filter.department())))
+                .and(startsWithIgnoreCase("fullName", filter.name()));
+    }
+
+    public static Specification<Device> devices(DeviceFilter filter, Long afterId) {
+        return Specification.<Device>where(idAfter(afterId))
+                .and(equalTo("type", filter.type()))
+                .and(equalTo("isLocked", filter.isLocked()));
+    }
+
+    public static Specification<AppAccess> appAccesses(AppAccessFilter filter, Long afterId) {
+        String status = blankToNull(filter.status());
+        return Specification.<AppAccess>where(idAfter(afterId))
+                .and(startsWithIgnoreCase("appName", filter.appName()))
+                .and(equalTo("status", status != null ? status.toUpperCase(Locale.ROOT) : null))
+                .and(equalTo("role", blankToNull(filter.role())));
+    }
+
+    private static <T> Specification<T> idAfter(Long afterId) {
+        return afterId == null ? null : (root, query, cb) -> cb.greaterThan(root.get("id"), afterId);
+    }
+
+    private static <T> Specification<T> equalTo(String attribute, Object value) {
+        return value == null ? null : (root, query, cb) -> cb.equal(root.get(attribute), value);
+    }
+
+    // lower(col) LIKE 'prefix%' matches the lower(...) text_pattern_ops indexes in schema-postgresql.sql
+    private static <T> Specification<T> startsWithIgnoreCase(String attribute, String prefix) {
+        String value = blankToNull(prefix);
+        if (value == null) {
+            return null;
+        }
+        String pattern = value.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get(attribute)), pattern, '\\');
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
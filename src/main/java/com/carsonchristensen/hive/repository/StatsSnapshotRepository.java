@@ -0,0 +1,9 @@
+package com.carsonchristensen.hive.repository;
+
+import com.carsonchristensen.hive.model.StatsSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StatsSnapshotRepository extends JpaRepository<StatsSnapshot, Long> {
+}
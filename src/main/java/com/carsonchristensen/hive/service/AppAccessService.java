@@ -1,30 +1,58 @@
 package com.carsonchristensen.hive.service;
 
+import com.carsonchristensen.hive.dto.AppAccessFilter;
+import com.carsonchristensen.hive.dto.AppAccessView;
+import com.carsonchristensen.hive.dto.AppLicenseCount;
 import com.carsonchristensen.hive.model.AppAccess;
 import com.carsonchristensen.hive.model.Employee;
 import com.carsonchristensen.hive.repository.AppAccessRepository;
 import com.carsonchristensen.hive.repository.EmployeeRepository;
+import com.carsonchristensen.hive.repository.FilterSpecifications;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AppAccessService {
 
+    public static final String CACHE_NAME = "employeeApps";
+
     private final AppAccessRepository appAccessRepository;
     private final EmployeeRepository employeeRepository;
+    private final EntityManager entityManager;
+    private final EmployeeCacheInvalidator cacheInvalidator;
+    private final DashboardStatsService statsService;
+
+    public List<AppAccessView> getAllAppAccesses() {
+        return appAccessRepository.findAllViews();
+    }
 
-    public List<AppAccess> getAllAppAccesses() {
-        return appAccessRepository.findAll();
+    public List<AppAccessView> searchAppAccesses(AppAccessFilter filter, Long afterId, int limit) {
+        return appAccessRepository.findViews(FilterSpecifications.appAccesses(filter, afterId), limit);
     }
 
-    public List<AppAccess> getAppsByEmployee(Long employeeId) {
-        return appAccessRepository.findByEmployeeId(employeeId);
+    public List<AppLicenseCount> getActiveLicenseCounts() {
+        return appAccessRepository.countActiveByAppName();
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAllAppAccesses(Consumer<AppAccessView> sink) {
+        StreamingSupport.drain(appAccessRepository.streamAllViews(), entityManager, sink);
+    }
+
+    // Evicted by EmployeeCacheInvalidator on assign and revoke
+    @Cacheable(cacheNames = CACHE_NAME, key = "#employeeId")
+    public List<AppAccessView> getAppsByEmployee(Long employeeId) {
+        return appAccessRepository.findViewsByEmployeeId(employeeId);
     }
 
     @Transactional
@@ -42,23 +70,33 @@ public class AppAccessService {
                 .build();
 
         // 3. Save and return
-        return appAccessRepository.save(appAccess);
+        AppAccess saved = appAccessRepository.save(appAccess);
+        cacheInvalidator.evict(employeeId);
+        statsService.appAccessesAdded(1);
+        return saved;
     }
 
     @Transactional
-    public void revokeAllForEmployee(Long employeeId) {
-        // 1. Find all app accesses for the employee
-        List<AppAccess> appAccesses = appAccessRepository.findByEmployeeId(employeeId);
+    public int revokeAllForEmployee(Long employeeId) {
+        // 1. Revoke all app accesses in one UPDATE (no per-row load or save)
+        int revoked = appAccessRepository.revokeAllByEmployeeId(employeeId);
+        cacheInvalidator.evict(employeeId);
+        statsService.appAccessesRevoked(revoked);
 
-        // 2. Revoke all app accesses (set status to "REVOKED")
-        appAccesses.forEach(appAccess -> appAccess.setStatus("REVOKED"));
+        // 2. Log the operation
+        log.info("Revoked {} app accesses for employee {}", revoked, employeeId);
+        return revoked;
+    }
 
-        // 3. Save all changes
-        appAccessRepository.saveAll(appAccesses);
+    @Transactional
+    public int revokeAllForEmployees(Collection<Long> employeeIds) {
+        // 1. Revoke app accesses for the whole batch with one employee_id IN (...) UPDATE
+        int revoked = appAccessRepository.revokeAllByEmployeeIdIn(employeeIds);
+        cacheInvalidator.evict(employeeIds);
+        statsService.appAccessesRevoked(revoked);
 
-        // 4. Log the operation
-        log.info("Revoked {} app accesses for employee {}", appAccesses.size(), employeeId);
+        // 2. Log the operation
+        log.info("Revoked {} app accesses for {} employees", revoked, employeeIds.size());
+        return revoked;
     }
 }
-
-
@@ -0,0 +1,339 @@
+package com.carsonchristensen.hive.service;
+
+import com.carsonchristensen.hive.dto.AppGrantImportRow;
+import com.carsonchristensen.hive.dto.DeviceImportRow;
+import com.carsonchristensen.hive.dto.EmployeeImportRow;
+import com.carsonchristensen.hive.model.AppAccess;
+import com.carsonchristensen.hive.model.Device;
+import com.carsonchristensen.hive.model.DeviceType;
+import com.carsonchristensen.hive.model.Employee;
+import com.carsonchristensen.hive.model.EmployeeStatus;
+import com.carsonchristensen.hive.repository.EmployeeRepository;
+import com.carsonchristensen.hive.service.ImportReport.RowError;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Streams CSV or NDJSON rows into the database in chunks. Each chunk is one
+ * transaction: one query resolving employee emails, IDs from the entities'
+ * pooled sequences, and one JDBC batch of INSERT ... ON CONFLICT (email or
+ * serial_number) DO NOTHING, so a duplicate email or serial number fails its
+ * row instead of the chunk. Any other conflict, an ID included, fails the chunk.
+ */
+@Slf4j
+@Service
+public class BulkImportService {
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    // Rows per transaction (and per JDBC batch); keeps the email IN-list and a rollback small
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_EMPLOYEE = """
+            INSERT INTO employees (id, email, full_name, status, department) VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (email) DO NOTHING""";
+    private static final String INSERT_DEVICE = """
+            INSERT INTO devices (id, serial_number, type, is_locked, employee_id) VALUES (?, ?, ?, FALSE, ?)
+            ON CONFLICT (serial_number) DO NOTHING""";
+    private static final String INSERT_APP_ACCESS = """
+            INSERT INTO app_accesses (id, app_name, status, role, employee_id) VALUES (?, ?, 'ACTIVE', ?, ?)""";
+
+    private final EmployeeRepository employeeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final EmployeeCacheInvalidator cacheInvalidator;
+    private final DashboardStatsService statsService;
+    private final ObjectReader ndjsonReader;
+    private final ObjectReader csvReader;
+
+    public BulkImportService(EmployeeRepository employeeRepository,
+                             JdbcTemplate jdbcTemplate,
+                             EntityManager entityManager,
+                             PlatformTransactionManager transactionManager,
+                             Validator validator,
+                             EmployeeCacheInvalidator cacheInvalidator,
+                             DashboardStatsService statsService,
+                             ObjectMapper objectMapper) {
+        this.employeeRepository = employeeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.cacheInvalidator = cacheInvalidator;
+        this.statsService = statsService;
+        this.ndjsonReader = objectMapper.reader();
+        // Header row names the columns; unknown columns are ignored, like unknown JSON keys
+        this.csvReader = CsvMapper.builder()
+                .enable(CsvParser.Feature.TRIM_SPACES, CsvParser.Feature.SKIP_EMPTY_LINES)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build()
+                .reader()
+                .with(CsvSchema.emptySchema().withHeader());
+    }
+
+    public ImportReport importEmployees(InputStream body, Format format) {
+        return run(body, format, EmployeeImportRow.class, this::writeEmployees);
+    }
+
+    public ImportReport importDevices(InputStream body, Format format) {
+        return run(body, format, DeviceImportRow.class, this::writeDevices);
+    }
+
+    public ImportReport importAppGrants(InputStream body, Format format) {
+        return run(body, format, AppGrantImportRow.class, this::writeAppGrants);
+    }
+
+    private <T> ImportReport run(InputStream body, Format format, Class<T> rowType, ChunkWriter<T> writer) {
+        ObjectReader reader = (format == Format.CSV ? csvReader : ndjsonReader).forType(rowType);
+        Outcome outcome = new Outcome();
+        List<Row<T>> chunk = new ArrayList<>(CHUNK_SIZE);
+        long rowNumber = 0;
+        RowError unreadable = null;
+
+        try (MappingIterator<T> rows = reader.readValues(body)) {
+            while (rows.hasNextValue()) {
+                T value = rows.nextValue();
+                chunk.add(new Row<>(++rowNumber, value));
+                if (chunk.size() == CHUNK_SIZE) {
+                    writeChunk(chunk, writer, outcome);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            // The parser can't resynchronise after a malformed record, so the rest of the input is skipped
+            String reason = e instanceof JsonProcessingException parse ? parse.getOriginalMessage() : e.getMessage();
+            unreadable = new RowError(rowNumber + 1, "Unreadable row, import stopped here: " + reason);
+        }
+
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, writer, outcome);
+        }
+        if (unreadable != null) {
+            outcome.errors.add(unreadable);
+        }
+        log.info("Bulk import of {}: {} imported, {} failed", rowType.getSimpleName(), outcome.imported, outcome.errors.size());
+        return outcome.toReport();
+    }
+
+    private <T> void writeChunk(List<Row<T>> chunk, ChunkWriter<T> writer, Outcome outcome) {
+        List<Row<T>> valid = new ArrayList<>(chunk.size());
+        for (Row<T> row : chunk) {
+            String violations = violations(row.value());
+            if (violations != null) {
+                outcome.fail(row, violations);
+            } else {
+                valid.add(row);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        // Row outcomes only count once the chunk has committed
+        Outcome written = new Outcome();
+        try {
+            transactionTemplate.executeWithoutResult(status -> writer.write(valid, written));
+            outcome.merge(written);
+        } catch (RuntimeException e) {
+            log.warn("Bulk import chunk of {} rows rolled back: {}", valid.size(), e.getMessage());
+            valid.forEach(row -> outcome.fail(row, "Not imported, its batch failed: " + e.getMessage()));
+        }
+    }
+
+    private void writeEmployees(List<Row<EmployeeImportRow>> rows, Outcome outcome) {
+        long[] ids = nextIds(Employee.class, rows.size());
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            EmployeeImportRow row = rows.get(i).value();
+            args.add(new Object[]{ids[i], row.email(), row.fullName(), EmployeeStatus.ACTIVE.name(), blankToNull(row.department())});
+        }
+
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_EMPLOYEE, args);
+        List<Long> inserted = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            if (counts[i] == 0) {
+                outcome.fail(rows.get(i), "Email already exists");
+            } else {
+                inserted.add(ids[i]);
+            }
+        }
+        outcome.imported += inserted.size();
+        statsService.employeesAdded(EmployeeStatus.ACTIVE, inserted.size());
+        cacheInvalidator.evictEmployeeQueries(inserted);
+    }
+
+    private void writeDevices(List<Row<DeviceImportRow>> rows, Outcome outcome) {
+        Map<String, Long> employeeIds = resolveEmployees(rows, DeviceImportRow::employeeEmail);
+        List<Row<DeviceImportRow>> accepted = new ArrayList<>(rows.size());
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (Row<DeviceImportRow> row : rows) {
+            Long employeeId = employeeIds.get(row.value().employeeEmail());
+            DeviceType type = deviceType(row.value().deviceType());
+            if (employeeId == null) {
+                outcome.fail(row, "Employee not found with email: " + row.value().employeeEmail());
+            } else if (type == null) {
+                outcome.fail(row, "Invalid device type: " + row.value().deviceType() + ". Must be one of: LAPTOP, MOBILE, TABLET");
+            } else {
+                accepted.add(row);
+                args.add(new Object[]{null, row.value().serialNumber(), type.name(), employeeId});
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        long[] ids = nextIds(Device.class, accepted.size());
+        for (int i = 0; i < args.size(); i++) {
+            args.get(i)[0] = ids[i];
+        }
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_DEVICE, args);
+        Set<Long> touched = new HashSet<>();
+        int inserted = 0;
+        for (int i = 0; i < accepted.size(); i++) {
+            if (counts[i] == 0) {
+                outcome.fail(accepted.get(i), "Device with serial number " + accepted.get(i).value().serialNumber() + " already exists");
+            } else {
+                inserted++;
+                touched.add((Long) args.get(i)[3]);
+            }
+        }
+        outcome.imported += inserted;
+        cacheInvalidator.evict(touched);
+        statsService.devicesAdded(inserted);
+    }
+
+    private void writeAppGrants(List<Row<AppGrantImportRow>> rows, Outcome outcome) {
+        Map<String, Long> employeeIds = resolveEmployees(rows, AppGrantImportRow::employeeEmail);
+        List<Object[]> args = new ArrayList<>(rows.size());
+        Set<Long> touched = new HashSet<>();
+        for (Row<AppGrantImportRow> row : rows) {
+            Long employeeId = employeeIds.get(row.value().employeeEmail());
+            if (employeeId == null) {
+                outcome.fail(row, "Employee not found with email: " + row.value().employeeEmail());
+            } else {
+                args.add(new Object[]{null, row.value().appName(), row.value().role(), employeeId});
+                touched.add(employeeId);
+            }
+        }
+        if (args.isEmpty()) {
+            return;
+        }
+
+        long[] ids = nextIds(AppAccess.class, args.size());
+        for (int i = 0; i < args.size(); i++) {
+            args.get(i)[0] = ids[i];
+        }
+        // No natural key on grants (same as assignApp), so every accepted row is inserted
+        jdbcTemplate.batchUpdate(INSERT_APP_ACCESS, args);
+        outcome.imported += args.size();
+        cacheInvalidator.evict(touched);
+        statsService.appAccessesAdded(args.size());
+    }
+
+    // One IN query per chunk instead of a findById per row
+    private <T> Map<String, Long> resolveEmployees(List<Row<T>> rows, Function<T, String> emailOf) {
+        Set<String> emails = rows.stream().map(row -> emailOf.apply(row.value())).collect(Collectors.toSet());
+        Map<String, Long> ids = new HashMap<>();
+        employeeRepository.findIdsByEmailIn(emails).forEach(view -> ids.put(view.getEmail(), view.getId()));
+        return ids;
+    }
+
+    // IDs come from the entity's own Hibernate generator, so they share its pooled allocations
+    // with regular saves instead of racing them with nextval() in SQL
+    private long[] nextIds(Class<?> entityType, int count) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(entityType)
+                .getGenerator();
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = ((Number) generator.generate(session, null)).longValue();
+        }
+        return ids;
+    }
+
+    private String violations(Object row) {
+        if (row == null) {
+            return "Row is empty";
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(row);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static DeviceType deviceType(String value) {
+        try {
+            return DeviceType.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        void write(List<Row<T>> rows, Outcome outcome);
+    }
+
+    private record Row<T>(long number, T value) {}
+
+    private static final class Outcome {
+        private int imported;
+        private final List<RowError> errors = new ArrayList<>();
+
+        void fail(Row<?> row, String message) {
+            errors.add(new RowError(row.number(), message));
+        }
+
+        void merge(Outcome other) {
+            imported += other.imported;
+            errors.addAll(other.errors);
+        }
+
+        ImportReport toReport() {
+            errors.sort(Comparator.comparingLong(RowError::row));
+            return new ImportReport(imported, errors.size(), List.copyOf(errors));
+        }
+    }
+}
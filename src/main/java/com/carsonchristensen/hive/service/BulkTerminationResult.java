@@ -0,0 +1,14 @@
+package com.carsonchristensen.hive.service;
+
+import java.util.List;
+
+public record BulkTerminationResult(int terminated, int alreadyTerminated, int notFound, List<Item> results) {
+
+    public enum Outcome {
+        TERMINATED,
+        ALREADY_TERMINATED,
+        NOT_FOUND
+    }
+
+    public record Item(Long employeeId, Outcome outcome) {}
+}
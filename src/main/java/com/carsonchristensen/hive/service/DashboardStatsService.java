@@ -0,0 +1,182 @@
+package com.carsonchristensen.hive.service;
+
+import com.carsonchristensen.hive.dto.DashboardStats;
+import com.carsonchristensen.hive.model.EmployeeStatus;
+import com.carsonchristensen.hive.model.StatsSnapshot;
+import com.carsonchristensen.hive.repository.AppAccessRepository;
+import com.carsonchristensen.hive.repository.DeviceRepository;
+import com.carsonchristensen.hive.repository.EmployeeRepository;
+import com.carsonchristensen.hive.repository.StatsSnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Read model behind GET /api/stats. Writers report deltas as their transactions
+ * commit, so reads are a handful of LongAdder sums regardless of table size.
+ *
+ * Counters only see writes made on this node and can drift (other nodes,
+ * manual SQL, a crash between commit and the hook), so a periodic
+ * reconciliation recounts from the tables and persists the result as the
+ * snapshot the next startup loads.
+ */
+@Slf4j
+@Service
+public class DashboardStatsService {
+
+    private final EmployeeRepository employeeRepository;
+    private final DeviceRepository deviceRepository;
+    private final AppAccessRepository appAccessRepository;
+    private final StatsSnapshotRepository statsSnapshotRepository;
+
+    private final Map<EmployeeStatus, LongAdder> employeesByStatus = new EnumMap<>(EmployeeStatus.class);
+    private final LongAdder totalDevices = new LongAdder();
+    private final LongAdder lockedDevices = new LongAdder();
+    private final LongAdder totalAppAccesses = new LongAdder();
+    private final LongAdder revokedAppAccesses = new LongAdder();
+    private volatile Instant reconciledAt;
+
+    public DashboardStatsService(EmployeeRepository employeeRepository,
+                                 DeviceRepository deviceRepository,
+                                 AppAccessRepository appAccessRepository,
+                                 StatsSnapshotRepository statsSnapshotRepository) {
+        this.employeeRepository = employeeRepository;
+        this.deviceRepository = deviceRepository;
+        this.appAccessRepository = appAccessRepository;
+        this.statsSnapshotRepository = statsSnapshotRepository;
+        for (EmployeeStatus status : EmployeeStatus.values()) {
+            employeesByStatus.put(status, new LongAdder());
+        }
+    }
+
+    public DashboardStats getStats() {
+        long active = employeesByStatus.get(EmployeeStatus.ACTIVE).sum();
+        long terminated = employeesByStatus.get(EmployeeStatus.TERMINATED).sum();
+        long onboarding = employeesByStatus.get(EmployeeStatus.ONBOARDING).sum();
+        return new DashboardStats(
+                active + terminated + onboarding, active, terminated, onboarding,
+                totalDevices.sum(), lockedDevices.sum(),
+                totalAppAccesses.sum(), revokedAppAccesses.sum(),
+                reconciledAt);
+    }
+
+    // --- Deltas, applied once the writing transaction commits ---
+
+    public void employeesAdded(EmployeeStatus status, long count) {
+        afterCommit(() -> employeesByStatus.get(status).add(count));
+    }
+
+    public void employeesMoved(EmployeeStatus from, EmployeeStatus to, long count) {
+        afterCommit(() -> {
+            employeesByStatus.get(from).add(-count);
+            employeesByStatus.get(to).add(count);
+        });
+    }
+
+    public void devicesAdded(long count) {
+        afterCommit(() -> totalDevices.add(count));
+    }
+
+    public void devicesLocked(long count) {
+        afterCommit(() -> lockedDevices.add(count));
+    }
+
+    public void appAccessesAdded(long count) {
+        afterCommit(() -> totalAppAccesses.add(count));
+    }
+
+    public void appAccessesRevoked(long count) {
+        afterCommit(() -> revokedAppAccesses.add(count));
+    }
+
+    // --- Snapshot and reconciliation ---
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSnapshot() {
+        statsSnapshotRepository.findById(StatsSnapshot.SINGLETON_ID).ifPresentOrElse(snapshot -> {
+            employeesByStatus.get(EmployeeStatus.ACTIVE).add(snapshot.getActiveEmployees());
+            employeesByStatus.get(EmployeeStatus.TERMINATED).add(snapshot.getTerminatedEmployees());
+            employeesByStatus.get(EmployeeStatus.ONBOARDING).add(snapshot.getOnboardingEmployees());
+            totalDevices.add(snapshot.getTotalDevices());
+            lockedDevices.add(snapshot.getLockedDevices());
+            totalAppAccesses.add(snapshot.getTotalAppAccesses());
+            revokedAppAccesses.add(snapshot.getRevokedAppAccesses());
+            reconciledAt = snapshot.getReconciledAt();
+            log.info("Loaded dashboard stats snapshot from {}", reconciledAt);
+        }, this::reconcile);
+    }
+
+    @Scheduled(initialDelayString = "${hive.stats.reconcile-interval-ms:60000}",
+            fixedDelayString = "${hive.stats.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        try {
+            Map<EmployeeStatus, Long> employeesBefore = new EnumMap<>(EmployeeStatus.class);
+            employeesByStatus.forEach((status, counter) -> employeesBefore.put(status, counter.sum()));
+            Map<EmployeeStatus, Long> employeeCounts = new EnumMap<>(EmployeeStatus.class);
+            employeeRepository.countByStatus()
+                    .forEach(row -> employeeCounts.put(row.getStatus(), row.getTotal()));
+            for (EmployeeStatus status : EmployeeStatus.values()) {
+                correct(employeesByStatus.get(status), employeesBefore.get(status),
+                        employeeCounts.getOrDefault(status, 0L), "employees." + status);
+            }
+            correct(totalDevices, deviceRepository::count, "devices");
+            correct(lockedDevices, deviceRepository::countByIsLockedTrue, "devices.locked");
+            correct(totalAppAccesses, appAccessRepository::count, "appAccesses");
+            correct(revokedAppAccesses, () -> appAccessRepository.countByStatus("REVOKED"), "appAccesses.revoked");
+            reconciledAt = Instant.now();
+
+            DashboardStats stats = getStats();
+            statsSnapshotRepository.save(StatsSnapshot.builder()
+                    .id(StatsSnapshot.SINGLETON_ID)
+                    .activeEmployees(stats.activeEmployees())
+                    .terminatedEmployees(stats.terminatedEmployees())
+                    .onboardingEmployees(stats.onboardingEmployees())
+                    .totalDevices(stats.totalDevices())
+                    .lockedDevices(stats.lockedDevices())
+                    .totalAppAccesses(stats.totalAppAccesses())
+                    .revokedAppAccesses(stats.revokedAppAccesses())
+                    .reconciledAt(reconciledAt)
+                    .build());
+        } catch (Exception e) {
+            log.error("Dashboard stats reconciliation failed, will retry: {}", e.getMessage(), e);
+        }
+    }
+
+    private void correct(LongAdder counter, LongSupplier count, String name) {
+        long before = counter.sum();
+        correct(counter, before, count.getAsLong(), name);
+    }
+
+    // Drift is measured against the value read before counting and added, not set, so deltas
+    // committed while the count runs are kept (at worst double-counted until the next pass)
+    private void correct(LongAdder counter, long before, long actual, String name) {
+        long drift = actual - before;
+        if (drift != 0) {
+            counter.add(drift);
+            log.info("Reconciled dashboard counter {} by {}", name, drift);
+        }
+    }
+
+    private static void afterCommit(Runnable delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delta.run();
+                }
+            });
+        } else {
+            delta.run();
+        }
+    }
+}
@@ -1,31 +1,54 @@
 package com.carsonchristensen.hive.service;
 
+import com.carsonchristensen.hive.dto.DeviceFilter;
+import com.carsonchristensen.hive.dto.DeviceView;
 import com.carsonchristensen.hive.model.Device;
 import com.carsonchristensen.hive.model.DeviceType;
 import com.carsonchristensen.hive.model.Employee;
 import com.carsonchristensen.hive.repository.DeviceRepository;
 import com.carsonchristensen.hive.repository.EmployeeRepository;
+import com.carsonchristensen.hive.repository.FilterSpecifications;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DeviceService {
 
+    public static final String CACHE_NAME = "employeeDevices";
+
     private final DeviceRepository deviceRepository;
     private final EmployeeRepository employeeRepository;
+    private final EntityManager entityManager;
+    private final EmployeeCacheInvalidator cacheInvalidator;
+    private final DashboardStatsService statsService;
+
+    public List<DeviceView> getAllDevices() {
+        return deviceRepository.findAllViews();
+    }
+
+    public List<DeviceView> searchDevices(DeviceFilter filter, Long afterId, int limit) {
+        return deviceRepository.findViews(FilterSpecifications.devices(filter, afterId), limit);
+    }
 
-    public List<Device> getAllDevices() {
-        return deviceRepository.findAll();
+    @Transactional(readOnly = true)
+    public void streamAllDevices(Consumer<DeviceView> sink) {
+        StreamingSupport.drain(deviceRepository.streamAllViews(), entityManager, sink);
     }
 
-    public List<Device> getDevicesByEmployee(Long employeeId) {
-        return deviceRepository.findByEmployeeId(employeeId);
+    // Evicted by EmployeeCacheInvalidator on assign and lock
+    @Cacheable(cacheNames = CACHE_NAME, key = "#employeeId")
+    public List<DeviceView> getDevicesByEmployee(Long employeeId) {
+        return deviceRepository.findViewsByEmployeeId(employeeId);
     }
 
     @Transactional
@@ -57,22 +80,33 @@ public class DeviceService {
                 .build();
 
         // 5. Save and return
-        return deviceRepository.save(device);
+        Device saved = deviceRepository.save(device);
+        cacheInvalidator.evict(employeeId);
+        statsService.devicesAdded(1);
+        return saved;
     }
 
     @Transactional
-    public void lockDevicesForEmployee(Long employeeId) {
-        // 1. Find all devices for the employee
-        List<Device> devices = deviceRepository.findByEmployeeId(employeeId);
-
-        // 2. Lock all devices
-        devices.forEach(device -> device.setIsLocked(true));
-
-        // 3. Save all changes
-        deviceRepository.saveAll(devices);
+    public int lockDevicesForEmployee(Long employeeId) {
+        // 1. Lock all devices in one UPDATE (no per-row load or save)
+        int locked = deviceRepository.lockAllByEmployeeId(employeeId);
+        cacheInvalidator.evict(employeeId);
+        statsService.devicesLocked(locked);
+
+        // 2. Log the operation
+        log.info("Locked {} devices for employee {}", locked, employeeId);
+        return locked;
+    }
 
-        // 4. Log the operation
-        log.info("Locked {} devices for employee {}", devices.size(), employeeId);
+    @Transactional
+    public int lockDevicesForEmployees(Collection<Long> employeeIds) {
+        // 1. Lock devices for the whole batch with one employee_id IN (...) UPDATE
+        int locked = deviceRepository.lockAllByEmployeeIdIn(employeeIds);
+        cacheInvalidator.evict(employeeIds);
+        statsService.devicesLocked(locked);
+
+        // 2. Log the operation
+        log.info("Locked {} devices for {} employees", locked, employeeIds.size());
+        return locked;
     }
 }
-
@@ -0,0 +1,122 @@
+package com.carsonchristensen.hive.service;
+
+import com.carsonchristensen.hive.event.EmployeeUpdate;
+import com.carsonchristensen.hive.event.EmployeeUpdatePublisher;
+import com.carsonchristensen.hive.model.Employee;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+// Evicts per-employee cache entries once the writing transaction has committed,
+// so a concurrent read can't re-cache the pre-commit state. The same IDs are then
+// broadcast as an EmployeeUpdate so every other node evicts too (and SSE clients refresh).
+@Component
+@RequiredArgsConstructor
+public class EmployeeCacheInvalidator {
+
+    // Devices or app access changed; the employee row itself did not
+    public static final String DATA_CHANGED = "DATA_CHANGED";
+    // The employee row changed (status), so other nodes must drop it from the second-level cache too
+    public static final String STATUS_CHANGED = "STATUS_CHANGED";
+    // New employee rows, so every node must drop its cached employee queries (findByEmail)
+    public static final String EMPLOYEES_ADDED = "EMPLOYEES_ADDED";
+
+    private static final List<String> PER_EMPLOYEE_CACHES = List.of(
+            EmployeeService.CACHE_NAME,
+            EmployeeSummaryService.CACHE_NAME,
+            DeviceService.CACHE_NAME,
+            AppAccessService.CACHE_NAME);
+
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final EmployeeUpdatePublisher employeeUpdatePublisher;
+
+    public void evict(Long employeeId) {
+        evict(List.of(employeeId), DATA_CHANGED);
+    }
+
+    public void evict(Collection<Long> employeeIds) {
+        evict(employeeIds, DATA_CHANGED);
+    }
+
+    public void evictStatusChange(Long employeeId) {
+        evict(List.of(employeeId), STATUS_CHANGED);
+    }
+
+    public void evictStatusChange(Collection<Long> employeeIds) {
+        evict(employeeIds, STATUS_CHANGED);
+    }
+
+    // A cached findByEmail keeps answering "no such employee" after a hire: Hibernate only invalidates
+    // the query cache of the node that wrote the row, and not even that one for plain JDBC inserts
+    // (bulk import). So the query region is evicted here and on every other node.
+    public void evictEmployeeQueries(Collection<Long> addedEmployeeIds) {
+        if (addedEmployeeIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(addedEmployeeIds);
+        afterCommit(() -> {
+            evictQueryRegion();
+            employeeUpdatePublisher.publish(ids, EMPLOYEES_ADDED);
+        });
+    }
+
+    // Called for broadcasts from any node (including this one); no re-broadcast
+    public void evictLocal(EmployeeUpdate update) {
+        // Hibernate keeps the second-level entry current for writes made through this node only
+        if (STATUS_CHANGED.equals(update.type())) {
+            jakarta.persistence.Cache secondLevel = entityManagerFactory.getCache();
+            update.employeeIds().forEach(id -> secondLevel.evict(Employee.class, id));
+        } else if (EMPLOYEES_ADDED.equals(update.type())) {
+            evictQueryRegion();
+        }
+        evictLocal(update.employeeIds());
+    }
+
+    private void evictQueryRegion() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+    }
+
+    private void evict(Collection<Long> employeeIds, String type) {
+        if (employeeIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(employeeIds);
+        afterCommit(() -> evictEverywhere(ids, type));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void evictEverywhere(List<Long> employeeIds, String type) {
+        evictLocal(employeeIds);
+        employeeUpdatePublisher.publish(employeeIds, type);
+    }
+
+    private void evictLocal(Collection<Long> employeeIds) {
+        for (String cacheName : PER_EMPLOYEE_CACHES) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                employeeIds.forEach(cache::evict);
+            }
+        }
+    }
+}
@@ -1,32 +1,94 @@
 package com.carsonchristensen.hive.service;
 
+import com.carsonchristensen.hive.dto.EmployeeFilter;
 import com.carsonchristensen.hive.event.EmployeeEvent;
-import com.carsonchristensen.hive.event.EventPublisher;
+import com.carsonchristensen.hive.event.EventTracing;
 import com.carsonchristensen.hive.model.Employee;
 import com.carsonchristensen.hive.model.EmployeeStatus;
+import com.carsonchristensen.hive.model.OutboxEvent;
 import com.carsonchristensen.hive.repository.EmployeeRepository;
+import com.carsonchristensen.hive.repository.FilterSpecifications;
+import com.carsonchristensen.hive.repository.EmployeeRepository.EmployeeStatusView;
+import com.carsonchristensen.hive.repository.OutboxEventRepository;
+import com.carsonchristensen.hive.service.BulkTerminationResult.Item;
+import com.carsonchristensen.hive.service.BulkTerminationResult.Outcome;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Service
 public class EmployeeService {
 
+    public static final String CACHE_NAME = "employees";
+
+    // Keeps IN-lists well under driver bind-parameter limits
+    private static final int BULK_CHUNK_SIZE = 1000;
+
     private final EmployeeRepository employeeRepository;
-    private final EventPublisher eventPublisher;
+    private final OutboxEventRepository outboxEventRepository;
+    private final EntityManager entityManager;
+    private final EmployeeCacheInvalidator cacheInvalidator;
+    private final DashboardStatsService statsService;
+    private final EventTracing eventTracing;
+    private final Timer singleTerminationTimer;
+    private final Timer bulkTerminationTimer;
 
-    public EmployeeService(EmployeeRepository employeeRepository, EventPublisher eventPublisher) {
+    public EmployeeService(EmployeeRepository employeeRepository,
+                           OutboxEventRepository outboxEventRepository,
+                           EntityManager entityManager,
+                           EmployeeCacheInvalidator cacheInvalidator,
+                           DashboardStatsService statsService,
+                           EventTracing eventTracing,
+                           MeterRegistry meterRegistry) {
         this.employeeRepository = employeeRepository;
-        this.eventPublisher = eventPublisher;
+        this.outboxEventRepository = outboxEventRepository;
+        this.entityManager = entityManager;
+        this.cacheInvalidator = cacheInvalidator;
+        this.statsService = statsService;
+        this.eventTracing = eventTracing;
+        // Status change + outbox insert, up to (not including) the commit; the event timestamp is taken inside
+        this.singleTerminationTimer = terminationTimer("single", meterRegistry);
+        this.bulkTerminationTimer = terminationTimer("bulk", meterRegistry);
+    }
+
+    private static Timer terminationTimer(String mode, MeterRegistry meterRegistry) {
+        return Timer.builder("hive.termination.request")
+                .description("Time to record a termination: status update and outbox event")
+                .tag("mode", mode)
+                .register(meterRegistry);
     }
 
     public List<Employee> getAllEmployees() {
         return employeeRepository.findAll();
     }
 
+    public List<Employee> searchEmployees(EmployeeFilter filter, Long afterId, int limit) {
+        return employeeRepository.findBy(FilterSpecifications.employees(filter, afterId),
+                query -> query.sortBy(Sort.by("id")).limit(limit).all());
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAllEmployees(Consumer<Employee> sink) {
+        StreamingSupport.drain(employeeRepository.streamAllOrderedById(), entityManager, sink);
+    }
+
+    // Absent employees aren't cached, so a later hire with that ID is visible immediately
+    @Cacheable(cacheNames = CACHE_NAME, key = "#id", unless = "#result == null")
     public Optional<Employee> getEmployeeById(Long id) {
         return employeeRepository.findById(id);
     }
@@ -34,27 +96,122 @@ public class EmployeeService {
     public Employee createEmployee(Employee employee) {
         // Default to ACTIVE when creating
         employee.setStatus(EmployeeStatus.ACTIVE);
-        return employeeRepository.save(employee);
+        Employee saved = employeeRepository.save(employee);
+        statsService.employeesAdded(EmployeeStatus.ACTIVE, 1);
+        cacheInvalidator.evictEmployeeQueries(List.of(saved.getId()));
+        return saved;
     }
 
     @Transactional
     public Employee terminateEmployee(Long employeeId) {
+        return singleTerminationTimer.record(() -> recordTermination(employeeId));
+    }
+
+    private Employee recordTermination(Long employeeId) {
         // 1. Find the employee
         Employee employee = employeeRepository.findById(employeeId)
                 .orElseThrow(() -> new RuntimeException("Employee not found with id: " + employeeId));
 
         // 2. Update status in DB
+        EmployeeStatus previousStatus = employee.getStatus();
         employee.setStatus(EmployeeStatus.TERMINATED);
         Employee savedEmployee = employeeRepository.save(employee);
+        cacheInvalidator.evictStatusChange(employeeId);
+        if (previousStatus != EmployeeStatus.TERMINATED) {
+            statsService.employeesMoved(previousStatus, EmployeeStatus.TERMINATED, 1);
+        }
 
-        // 3. Publish the Event (The "Trigger")
+        // 3. Record the Event (The "Trigger") in the outbox, committed with the status change.
+        //    OutboxRelay publishes it once the transaction has committed.
         EmployeeEvent event = new EmployeeEvent(
                 "TERMINATED",
                 savedEmployee.getId(),
                 Instant.now()
-        );
-        eventPublisher.publishEmployeeEvent(event);
+        ).withTraceParent(eventTracing.currentTraceParent());
+        outboxEventRepository.save(OutboxEvent.from(event));
 
         return savedEmployee;
     }
+
+    @Transactional
+    public BulkTerminationResult terminateEmployees(Collection<Long> employeeIds) {
+        return bulkTerminationTimer.record(() -> lockAndTerminate(employeeIds));
+    }
+
+    private BulkTerminationResult lockAndTerminate(Collection<Long> employeeIds) {
+        // 1. Lock the requested rows and read their current status (one query per chunk)
+        List<Long> requested = new ArrayList<>(new LinkedHashSet<>(employeeIds));
+        Map<Long, EmployeeStatus> current = new HashMap<>();
+        for (List<Long> chunk : partition(requested)) {
+            employeeRepository.lockStatusesByIdIn(chunk)
+                    .forEach(view -> current.put(view.getId(), view.getStatus()));
+        }
+        return terminateAll(requested, current);
+    }
+
+    @Transactional
+    public BulkTerminationResult terminateDepartment(String department) {
+        return bulkTerminationTimer.record(() -> lockAndTerminateDepartment(department));
+    }
+
+    private BulkTerminationResult lockAndTerminateDepartment(String department) {
+        // 1. Lock every row in the department and read its current status
+        List<Long> requested = new ArrayList<>();
+        Map<Long, EmployeeStatus> current = new HashMap<>();
+        for (EmployeeStatusView view : employeeRepository.lockStatusesByDepartment(department)) {
+            requested.add(view.getId());
+            current.put(view.getId(), view.getStatus());
+        }
+        return terminateAll(requested, current);
+    }
+
+    private BulkTerminationResult terminateAll(List<Long> requested, Map<Long, EmployeeStatus> current) {
+        List<Long> toTerminate = requested.stream()
+                .filter(id -> current.containsKey(id) && current.get(id) != EmployeeStatus.TERMINATED)
+                .toList();
+
+        // 2. Flip statuses with one set-based UPDATE per chunk
+        for (List<Long> chunk : partition(toTerminate)) {
+            employeeRepository.updateStatusByIdIn(chunk, EmployeeStatus.TERMINATED);
+        }
+        cacheInvalidator.evictStatusChange(toTerminate);
+        toTerminate.stream()
+                .collect(Collectors.groupingBy(current::get, Collectors.counting()))
+                .forEach((from, count) -> statsService.employeesMoved(from, EmployeeStatus.TERMINATED, count));
+
+        // 3. Record all events in the outbox (batched inserts); OutboxRelay publishes them after commit
+        Instant now = Instant.now();
+        String traceParent = eventTracing.currentTraceParent();
+        outboxEventRepository.saveAll(toTerminate.stream()
+                .map(id -> OutboxEvent.from(new EmployeeEvent("TERMINATED", id, now).withTraceParent(traceParent)))
+                .toList());
+
+        // 4. Report per-ID outcomes
+        List<Item> results = new ArrayList<>(requested.size());
+        int terminated = 0;
+        int alreadyTerminated = 0;
+        int notFound = 0;
+        for (Long id : requested) {
+            EmployeeStatus status = current.get(id);
+            if (status == null) {
+                results.add(new Item(id, Outcome.NOT_FOUND));
+                notFound++;
+            } else if (status == EmployeeStatus.TERMINATED) {
+                results.add(new Item(id, Outcome.ALREADY_TERMINATED));
+                alreadyTerminated++;
+            } else {
+                results.add(new Item(id, Outcome.TERMINATED));
+                terminated++;
+            }
+        }
+        return new BulkTerminationResult(terminated, alreadyTerminated, notFound, results);
+    }
+
+    private static List<List<Long>> partition(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += BULK_CHUNK_SIZE) {
+            chunks.add(ids.subList(i, Math.min(i + BULK_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.carsonchristensen.hive.service;
+
+import com.carsonchristensen.hive.dto.EmployeeSummary;
+import com.carsonchristensen.hive.dto.EmployeeSummary.AppItem;
+import com.carsonchristensen.hive.dto.EmployeeSummary.DeviceItem;
+import com.carsonchristensen.hive.model.DeviceType;
+import com.carsonchristensen.hive.model.EmployeeStatus;
+import com.carsonchristensen.hive.repository.EmployeeRepository;
+import com.carsonchristensen.hive.repository.EmployeeRepository.SummaryRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+@Service
+@RequiredArgsConstructor
+public class EmployeeSummaryService {
+
+    public static final String CACHE_NAME = "employeeSummaries";
+
+    private final EmployeeRepository employeeRepository;
+
+    // Evicted by EmployeeCacheInvalidator whenever the employee, their devices or their apps change
+    @Cacheable(cacheNames = CACHE_NAME, key = "#employeeId", unless = "#result == null")
+    @Transactional(readOnly = true)
+    public EmployeeSummary getSummary(Long employeeId) {
+        List<SummaryRow> rows = employeeRepository.findSummaryRows(employeeId);
+
+        SummaryRow employee = null;
+        List<DeviceItem> devices = new ArrayList<>();
+        List<AppItem> apps = new ArrayList<>();
+        CRC32 checksum = new CRC32();
+        for (SummaryRow row : rows) {
+            switch (row.getKind()) {
+                case "E" -> employee = row;
+                case "D" -> devices.add(new DeviceItem(row.getId(), row.getName(),
+                        DeviceType.valueOf(row.getDetail()), row.getLocked()));
+                case "A" -> apps.add(new AppItem(row.getId(), row.getName(), row.getDetail(), row.getStatus()));
+                default -> throw new IllegalStateException("Unknown summary row kind: " + row.getKind());
+            }
+            String fingerprint = row.getKind() + row.getId() + row.getName() + row.getDetail()
+                    + row.getStatus() + row.getDepartment() + row.getLocked();
+            checksum.update(fingerprint.getBytes(StandardCharsets.UTF_8));
+        }
+
+        if (employee == null) {
+            return null;
+        }
+        return new EmployeeSummary(
+                employee.getId(),
+                employee.getName(),
+                employee.getDetail(),
+                EmployeeStatus.valueOf(employee.getStatus()),
+                employee.getDepartment(),
+                devices,
+                apps,
+                "\"" + Long.toHexString(checksum.getValue()) + "\""
+        );
+    }
+}
@@ -0,0 +1,91 @@
+package com.carsonchristensen.hive.service;
+
+import com.carsonchristensen.hive.event.EmployeeUpdate;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node-local registry of open SSE connections, keyed by employee ID. An idle
+ * connection holds no thread; each push runs on its own virtual thread so a
+ * slow client never delays the caller or the other subscribers.
+ */
+@Slf4j
+@Component
+public class EmployeeUpdateStreams {
+
+    private static final long EMITTER_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(30);
+
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("sse-push-", 0).factory());
+
+    public SseEmitter subscribe(Long employeeId) {
+        // Browsers reconnect on their own once the timeout closes the stream
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        emitters.computeIfAbsent(employeeId, id -> ConcurrentHashMap.newKeySet()).add(emitter);
+
+        Runnable remove = () -> remove(employeeId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+        return emitter;
+    }
+
+    public void deliver(EmployeeUpdate update) {
+        for (Long employeeId : update.employeeIds()) {
+            Set<SseEmitter> subscribers = emitters.get(employeeId);
+            if (subscribers == null) {
+                continue;
+            }
+            Map<String, Object> payload = Map.of("employeeId", employeeId, "type", update.type());
+            for (SseEmitter emitter : subscribers) {
+                sender.execute(() -> send(employeeId, emitter,
+                        SseEmitter.event().name("employee-updated").data(payload)));
+            }
+        }
+    }
+
+    public int connectionCount() {
+        return emitters.values().stream().mapToInt(Set::size).sum();
+    }
+
+    // Keeps proxies from closing idle streams and flushes out connections that have gone away
+    @Scheduled(fixedRate = 25_000)
+    public void heartbeat() {
+        emitters.forEach((employeeId, subscribers) -> subscribers.forEach(emitter ->
+                sender.execute(() -> send(employeeId, emitter, SseEmitter.event().comment("ping")))));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.close();
+    }
+
+    private void send(Long employeeId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping SSE connection for employee {}: {}", employeeId, e.getMessage());
+            remove(employeeId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(Long employeeId, SseEmitter emitter) {
+        emitters.computeIfPresent(employeeId, (id, subscribers) -> {
+            subscribers.remove(emitter);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
@@ -0,0 +1,113 @@
+package com.carsonchristensen.hive.service;
+
+import com.carsonchristensen.hive.dto.EmployeeSummary;
+import com.carsonchristensen.hive.dto.EmployeeSummary.AppItem;
+import com.carsonchristensen.hive.dto.EmployeeSummary.DeviceItem;
+import com.carsonchristensen.hive.model.DeviceType;
+import com.carsonchristensen.hive.model.EmployeeStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Full offboarding state (every employee with their devices and app grants) for
+ * the nightly audit export. Rows come from one forward-only cursor over a
+ * UNION ALL ordered by employee, so each employee is assembled from consecutive
+ * rows and handed on before the next one is read: memory holds one employee at
+ * a time, and devices and grants never multiply each other as a join would.
+ */
+@Service
+public class ExportService {
+
+    // Rows per round trip from the server-side cursor (Postgres only uses a cursor inside a transaction)
+    private static final int FETCH_SIZE = 1000;
+
+    // No ORDER BY beyond employee_id, so Postgres can merge the three employee_id index scans
+    // instead of sorting the whole dump
+    private static final String EXPORT_ROWS = """
+            SELECT e.id AS employee_id, 'E' AS kind, e.id AS id, e.full_name AS name, e.email AS detail,
+                   CAST(e.status AS VARCHAR(32)) AS status, e.department AS department, CAST(NULL AS BOOLEAN) AS locked
+              FROM employees e
+            UNION ALL
+            SELECT d.employee_id, 'D', d.id, d.serial_number, CAST(d.type AS VARCHAR(32)), NULL, NULL, d.is_locked
+              FROM devices d WHERE d.employee_id IS NOT NULL
+            UNION ALL
+            SELECT a.employee_id, 'A', a.id, a.app_name, a.role, a.status, NULL, NULL
+              FROM app_accesses a WHERE a.employee_id IS NOT NULL
+            ORDER BY employee_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ExportService(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamEmployees(Consumer<EmployeeSummary> sink) {
+        EmployeeAssembler assembler = new EmployeeAssembler(sink);
+        jdbcTemplate.query(EXPORT_ROWS, assembler::accept);
+        assembler.flush();
+    }
+
+    // Collects the rows of one employee (in any kind order) and emits them when the employee ID changes
+    static final class EmployeeAssembler {
+
+        private final Consumer<EmployeeSummary> sink;
+        private long employeeId = -1;
+        private EmployeeRow employee;
+        private final List<DeviceItem> devices = new ArrayList<>();
+        private final List<AppItem> apps = new ArrayList<>();
+
+        EmployeeAssembler(Consumer<EmployeeSummary> sink) {
+            this.sink = sink;
+        }
+
+        void accept(ResultSet rs) throws SQLException {
+            long rowEmployeeId = rs.getLong("employee_id");
+            if (rowEmployeeId != employeeId) {
+                flush();
+                employeeId = rowEmployeeId;
+            }
+            long id = rs.getLong("id");
+            String name = rs.getString("name");
+            String detail = rs.getString("detail");
+            switch (rs.getString("kind")) {
+                case "E" -> employee = new EmployeeRow(id, name, detail, rs.getString("status"), rs.getString("department"));
+                case "D" -> devices.add(new DeviceItem(id, name, DeviceType.valueOf(detail), rs.getBoolean("locked")));
+                case "A" -> apps.add(new AppItem(id, name, detail, rs.getString("status")));
+                default -> throw new IllegalStateException("Unknown export row kind: " + rs.getString("kind"));
+            }
+        }
+
+        void flush() {
+            if (employee != null) {
+                devices.sort(Comparator.comparing(DeviceItem::id));
+                apps.sort(Comparator.comparing(AppItem::id));
+                sink.accept(new EmployeeSummary(
+                        employee.id(),
+                        employee.name(),
+                        employee.detail(),
+                        EmployeeStatus.valueOf(employee.status()),
+                        employee.department(),
+                        List.copyOf(devices),
+                        List.copyOf(apps),
+                        null));
+            }
+            employee = null;
+            devices.clear();
+            apps.clear();
+        }
+
+        private record EmployeeRow(long id, String name, String detail, String status, String department) {}
+    }
+}
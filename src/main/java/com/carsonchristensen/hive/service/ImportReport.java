@@ -0,0 +1,9 @@
+package com.carsonchristensen.hive.service;
+
+import java.util.List;
+
+// Outcome of a bulk import; rows are numbered from 1 in file order, not counting a CSV header
+public record ImportReport(int imported, int failed, List<RowError> errors) {
+
+    public record RowError(long row, String message) {}
+}
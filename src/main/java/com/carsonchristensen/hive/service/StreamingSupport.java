@@ -0,0 +1,29 @@
+package com.carsonchristensen.hive.service;
+
+import jakarta.persistence.EntityManager;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+final class StreamingSupport {
+
+    // Rows between persistence-context clears, so a full-table stream keeps memory flat
+    private static final int CLEAR_INTERVAL = 500;
+
+    private StreamingSupport() {
+    }
+
+    static <T> void drain(Stream<T> rows, EntityManager entityManager, Consumer<? super T> sink) {
+        try (rows) {
+            Iterator<T> iterator = rows.iterator();
+            int count = 0;
+            while (iterator.hasNext()) {
+                sink.accept(iterator.next());
+                if (++count % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+}
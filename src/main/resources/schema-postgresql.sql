@@ -0,0 +1,27 @@
+-- Indexes that JPA @Index can't express (expression and partial indexes).
+-- Runs after Hibernate's schema update (spring.jpa.defer-datasource-initialization), so tables exist.
+
+-- name=... filter: lower(full_name) LIKE 'prefix%'
+CREATE INDEX IF NOT EXISTS idx_employee_name_prefix
+    ON employees (lower(full_name) text_pattern_ops, id);
+
+-- isLocked=false filter (the common "what's still out there" view), optionally by type
+CREATE INDEX IF NOT EXISTS idx_device_unlocked
+    ON devices (type, id) WHERE is_locked = false;
+
+-- Active grants only: status=ACTIVE filters by app name, and the per-app license counts
+-- (GET /api/app-access/active-by-app) as an index-only scan
+CREATE INDEX IF NOT EXISTS idx_app_access_active
+    ON app_accesses (app_name, role, id) WHERE status = 'ACTIVE';
+CREATE INDEX IF NOT EXISTS idx_app_access_name_prefix
+    ON app_accesses (lower(app_name) text_pattern_ops, id);
+
+-- IDs moved from IDENTITY columns to pooled sequences (50 per allocation). On a database
+-- created before that, move each sequence past the rows the identity column already handed out.
+-- Only ever moves a sequence forward, so it is safe on every startup and with several nodes.
+SELECT setval('employees_seq', (SELECT max(id) FROM employees) + 50)
+ WHERE (SELECT max(id) FROM employees) > (SELECT last_value FROM employees_seq);
+SELECT setval('devices_seq', (SELECT max(id) FROM devices) + 50)
+ WHERE (SELECT max(id) FROM devices) > (SELECT last_value FROM devices_seq);
+SELECT setval('app_accesses_seq', (SELECT max(id) FROM app_accesses) + 50)
+ WHERE (SELECT max(id) FROM app_accesses) > (SELECT last_value FROM app_accesses_seq);
@@ -2,12 +2,16 @@ package com.carsonchristensen.hive; // MATCHES MAIN APP PACKAGE
 
 import com.carsonchristensen.hive.config.RabbitMQConfig;
 import com.carsonchristensen.hive.event.EmployeeEvent;
+import com.carsonchristensen.hive.listener.TerminationRetryPublisher;
+import com.carsonchristensen.hive.service.DeviceService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
@@ -16,12 +20,24 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
-@SpringBootTest
+// Short retry delays (two 100ms steps) so a failing effect reaches the dead-letter queue quickly
+@SpringBootTest(properties = {
+        "hive.listener.retry.max-attempts=2",
+        "hive.listener.retry.initial-interval-ms=100",
+        "hive.listener.retry.multiplier=1"
+})
 @Testcontainers
 @Import(RabbitMQIntegrationTest.TestListenerConfig.class)
 public class RabbitMQIntegrationTest {
@@ -36,6 +52,15 @@ public class RabbitMQIntegrationTest {
     @Autowired
     private TestListener testListener;
 
+    @Autowired
+    private TerminationRetryPublisher retryPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private DeviceService deviceService;
+
     @Test
     void testSendAndReceiveEmployeeEvent() throws Exception {
         EmployeeEvent event = new EmployeeEvent("TERMINATED", 101L, Instant.now());
@@ -51,6 +76,58 @@ public class RabbitMQIntegrationTest {
         assertThat(receivedEvent.employeeId()).isEqualTo(101L);
     }
 
+    @Test
+    void failingEffectIsRetriedThenDeadLetteredAndReplayed() throws Exception {
+        when(deviceService.lockDevicesForEmployees(anySet())).thenThrow(new IllegalStateException("MDM unavailable"));
+        EmployeeEvent event = new EmployeeEvent(1L, "TERMINATED", 202L, Instant.now());
+
+        // Enters the device retry queue the way a replayed dead letter does, as attempt 0
+        rabbitTemplate.convertAndSend(RabbitMQConfig.RETRY_EXCHANGE, "replay." + RabbitMQConfig.DEVICE_RETRY_KEY, event,
+                message -> {
+                    message.getMessageProperties().setHeader(TerminationRetryPublisher.ATTEMPT_HEADER, 0);
+                    return message;
+                });
+
+        // Attempt 0 fails, then retries 1 and 2 through the delay queue; the last one dead-letters it
+        awaitTrue(() -> retryPublisher.deadLetterCount() == 1, 10);
+        verify(deviceService, atLeast(3)).lockDevicesForEmployees(Set.of(202L));
+        assertThat(meterRegistry.get("hive.termination.retries").tag("effect", "lock_devices").counter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("hive.termination.dead-lettered").tag("effect", "lock_devices").counter().count())
+                .isEqualTo(1);
+
+        // Once the cause is fixed, a replay runs the effect again and empties the queue
+        when(deviceService.lockDevicesForEmployees(anySet())).thenReturn(1);
+        assertThat(retryPublisher.replayDeadLetters()).isEqualTo(1);
+
+        awaitTrue(() -> meterRegistry.find("hive.termination.recovered").tag("effect", "lock_devices").timer() != null
+                && meterRegistry.get("hive.termination.recovered").tag("effect", "lock_devices").timer().count() == 1, 10);
+        assertThat(retryPublisher.deadLetterCount()).isZero();
+    }
+
+    @Test
+    void replayLeavesDeadLettersWithoutAnEffectInTheQueue() throws Exception {
+        // Parked by hand, or by an older version, without the header naming the effect
+        rabbitTemplate.convertAndSend("", RabbitMQConfig.DEAD_LETTER_QUEUE,
+                new EmployeeEvent(2L, "TERMINATED", 303L, Instant.now()));
+        awaitTrue(() -> retryPublisher.deadLetterCount() == 1, 10);
+
+        try {
+            assertThat(retryPublisher.replayDeadLetters()).isZero();
+            assertThat(retryPublisher.deadLetterCount()).isEqualTo(1);
+        } finally {
+            rabbitTemplate.execute(channel -> channel.queuePurge(RabbitMQConfig.DEAD_LETTER_QUEUE));
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition, long timeoutSeconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition met within %ds", timeoutSeconds).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
     @TestConfiguration
     static class TestListenerConfig {
         @Bean
@@ -63,8 +140,8 @@ public class RabbitMQIntegrationTest {
         public CompletableFuture<EmployeeEvent> receivedEvent = new CompletableFuture<>();
 
         @RabbitListener(queues = RabbitMQConfig.QUEUE_NAME)
-        public void listen(EmployeeEvent event) {
-            receivedEvent.complete(event);
+        public void listen(List<EmployeeEvent> events) {
+            receivedEvent.complete(events.get(0));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.carsonchristensen.hive.benchmark;
+
+import com.carsonchristensen.hive.event.EmployeeEvent;
+import com.carsonchristensen.hive.event.EmployeeEventMessageConverter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Encode + decode round trips of EmployeeEvent through the JSON converter versus
+ * the binary layout: time, bytes allocated and body size per message.
+ *
+ * Run with: ./mvnw test -Dtest=EmployeeEventConverterBenchmark -Dhive.benchmark=true
+ */
+@EnabledIfSystemProperty(named = "hive.benchmark", matches = "true")
+class EmployeeEventConverterBenchmark {
+
+    private static final int WARMUP_ROUNDS = 200_000;
+    private static final int MEASURED_ROUNDS = 1_000_000;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void roundTrip() {
+        Jackson2JsonMessageConverter jackson = new Jackson2JsonMessageConverter();
+        Result json = measure("json", new EmployeeEventMessageConverter(jackson, false));
+        Result binary = measure("binary", new EmployeeEventMessageConverter(jackson, true));
+
+        report(json);
+        report(binary);
+        assertThat(binary.bodyBytes()).isLessThan(json.bodyBytes());
+        assertThat(binary.allocatedPerOp()).isLessThan(json.allocatedPerOp());
+    }
+
+    private Result measure(String label, MessageConverter converter) {
+        Instant now = Instant.now();
+        long checksum = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            checksum += roundTrip(converter, new EmployeeEvent("TERMINATED", (long) round, now)).employeeId();
+        }
+
+        int bodyBytes = converter.toMessage(new EmployeeEvent("TERMINATED", 1L, now), new MessageProperties()).getBody().length;
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            checksum += roundTrip(converter, new EmployeeEvent("TERMINATED", (long) round, now)).employeeId();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        assertThat(checksum).isPositive();
+        return new Result(label, (double) elapsed / MEASURED_ROUNDS, allocated / MEASURED_ROUNDS, bodyBytes);
+    }
+
+    private static EmployeeEvent roundTrip(MessageConverter converter, EmployeeEvent event) {
+        Message message = converter.toMessage(event, new MessageProperties());
+        // What the listener adapter does for a List<EmployeeEvent> parameter
+        message.getMessageProperties().setInferredArgumentType(EmployeeEvent.class);
+        return (EmployeeEvent) converter.fromMessage(message);
+    }
+
+    private void report(Result result) {
+        System.out.printf("EmployeeEvent %-6s | %7.1f ns/op, %8.0f ops/s | %5d bytes allocated/op | %3d byte body%n",
+                result.label(), result.nanosPerOp(), 1_000_000_000.0 / result.nanosPerOp(),
+                result.allocatedPerOp(), result.bodyBytes());
+    }
+
+    private record Result(String label, double nanosPerOp, long allocatedPerOp, int bodyBytes) {}
+}
@@ -0,0 +1,143 @@
+package com.carsonchristensen.hive.benchmark;
+
+import com.carsonchristensen.hive.model.Device;
+import com.carsonchristensen.hive.model.DeviceType;
+import com.carsonchristensen.hive.model.Employee;
+import com.carsonchristensen.hive.model.EmployeeStatus;
+import com.carsonchristensen.hive.repository.DeviceRepository;
+import com.carsonchristensen.hive.repository.EmployeeRepository;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.jpa.SpecHints;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures DB round trips on the assignment path (employee lookup, serial check,
+ * insert) and on email lookups, with the Employee second-level / query cache
+ * versus bypassing it. Every round runs in its own transaction, as requests do.
+ *
+ * Run with: ./mvnw test -Dtest=EmployeeSecondLevelCacheBenchmark -Dhive.benchmark=true
+ */
+@EnabledIfSystemProperty(named = "hive.benchmark", matches = "true")
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeSecondLevelCacheBenchmark {
+
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int MEASURED_ROUNDS = 1000;
+    private static final Map<String, Object> BYPASS_CACHE =
+            Map.of(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS);
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DeviceRepository deviceRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void assignmentPath() {
+        Employee employee = seed("assign@company.com");
+        Long employeeId = employee.getId();
+
+        Result uncached = measure("bypass", round -> assign(
+                entityManager.find(Employee.class, employeeId, BYPASS_CACHE), "SN-BYPASS-" + round));
+        Result cached = measure("l2", round -> assign(
+                employeeRepository.findById(employeeId).orElseThrow(), "SN-L2-" + round));
+
+        report("assignDevice", uncached, cached);
+        // find employee + serial check + insert -> serial check + insert
+        assertThat(cached.statementsPerRound()).isLessThan(uncached.statementsPerRound());
+        assertThat(cached.secondLevelHits()).isEqualTo(MEASURED_ROUNDS);
+    }
+
+    @Test
+    void findByEmail() {
+        seed("lookup@company.com");
+
+        Result uncached = measure("bypass", round -> entityManager
+                .createQuery("select e from Employee e where e.email = :email", Employee.class)
+                .setParameter("email", "lookup@company.com")
+                .setHint(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS)
+                .getSingleResult());
+        Result cached = measure("query cache", round -> employeeRepository.findByEmail("lookup@company.com").orElseThrow());
+
+        report("findByEmail", uncached, cached);
+        assertThat(cached.statementsPerRound()).isZero();
+    }
+
+    private void assign(Employee employee, String serialNumber) {
+        deviceRepository.findBySerialNumber(serialNumber);
+        deviceRepository.save(Device.builder()
+                .serialNumber(serialNumber)
+                .type(DeviceType.LAPTOP)
+                .isLocked(false)
+                .employee(employee)
+                .build());
+    }
+
+    private Employee seed(String email) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        return tx.execute(status -> employeeRepository.save(Employee.builder()
+                .email(email)
+                .fullName("Bench " + email)
+                .status(EmployeeStatus.ACTIVE)
+                .build()));
+    }
+
+    private Result measure(String label, IntConsumer path) {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            int r = round;
+            tx.executeWithoutResult(status -> path.accept(r));
+        }
+
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int round = WARMUP_ROUNDS; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            int r = round;
+            tx.executeWithoutResult(status -> path.accept(r));
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return new Result(label, elapsed / MEASURED_ROUNDS,
+                (double) statistics.getPrepareStatementCount() / MEASURED_ROUNDS,
+                statistics.getSecondLevelCacheHitCount());
+    }
+
+    private void report(String operation, Result uncached, Result cached) {
+        System.out.printf("%-14s | %-6s: %7.1f us, %4.2f statements/op | %-11s: %7.1f us, %4.2f statements/op, %d L2 hits%n",
+                operation,
+                uncached.label(), uncached.avgNanos() / 1_000.0, uncached.statementsPerRound(),
+                cached.label(), cached.avgNanos() / 1_000.0, cached.statementsPerRound(), cached.secondLevelHits());
+    }
+
+    private record Result(String label, long avgNanos, double statementsPerRound, long secondLevelHits) {}
+}
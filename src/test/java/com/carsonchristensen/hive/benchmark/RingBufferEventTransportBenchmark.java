@@ -0,0 +1,108 @@
+package com.carsonchristensen.hive.benchmark;
+
+import com.carsonchristensen.hive.event.EmployeeEvent;
+import com.carsonchristensen.hive.event.RingBufferEventTransport;
+import com.carsonchristensen.hive.event.RingBufferEventTransport.WaitStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Publish-to-handler latency of the in-process event ring for each wait strategy, with
+ * events trickling in one at a time (the consumer is idle between them), plus throughput
+ * with several producers publishing outbox-sized batches as fast as they can.
+ *
+ * Run with: ./mvnw test -Dtest=RingBufferEventTransportBenchmark -Dhive.benchmark=true
+ */
+@EnabledIfSystemProperty(named = "hive.benchmark", matches = "true")
+class RingBufferEventTransportBenchmark {
+
+    private static final int LATENCY_SAMPLES = 20_000;
+    private static final int PRODUCERS = 4;
+    private static final int EVENTS_PER_PRODUCER = 1_000_000;
+    private static final int PUBLISH_BATCH = 500;
+
+    @Test
+    void waitStrategies() throws Exception {
+        for (WaitStrategy strategy : WaitStrategy.values()) {
+            long[] latencies = latency(strategy);
+            double eventsPerSecond = throughput(strategy);
+            System.out.printf("Ring %-9s | p50 %7.1f us, p99 %7.1f us, max %8.1f us | %,12.0f events/s%n",
+                    strategy, micros(latencies, 0.50), micros(latencies, 0.99),
+                    latencies[latencies.length - 1] / 1000.0, eventsPerSecond);
+            assertThat(eventsPerSecond).isPositive();
+        }
+    }
+
+    // Each event carries its publish time in employeeId; the handler records the difference
+    private long[] latency(WaitStrategy strategy) throws InterruptedException {
+        long[] samples = new long[LATENCY_SAMPLES];
+        AtomicInteger received = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(1);
+        try (RingBufferEventTransport ring = new RingBufferEventTransport(1024, 100, strategy, events -> {
+            long now = System.nanoTime();
+            for (EmployeeEvent event : events) {
+                int index = received.getAndIncrement();
+                samples[index] = now - event.employeeId();
+                if (index == LATENCY_SAMPLES - 1) {
+                    done.countDown();
+                }
+            }
+        })) {
+            Instant timestamp = Instant.now();
+            for (int i = 0; i < LATENCY_SAMPLES; i++) {
+                ring.publish(List.of(new EmployeeEvent("TERMINATED", System.nanoTime(), timestamp)));
+                LockSupport.parkNanos(20_000);
+            }
+            assertThat(done.await(1, TimeUnit.MINUTES)).isTrue();
+        }
+        // The first quarter is warm-up
+        long[] measured = Arrays.copyOfRange(samples, LATENCY_SAMPLES / 4, LATENCY_SAMPLES);
+        Arrays.sort(measured);
+        return measured;
+    }
+
+    private double throughput(WaitStrategy strategy) throws InterruptedException {
+        long total = (long) PRODUCERS * EVENTS_PER_PRODUCER;
+        AtomicInteger received = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(1);
+        List<EmployeeEvent> batch = LongStream.range(0, PUBLISH_BATCH)
+                .mapToObj(id -> new EmployeeEvent("TERMINATED", id, Instant.now()))
+                .toList();
+        try (RingBufferEventTransport ring = new RingBufferEventTransport(8192, 100, strategy, events -> {
+            if (received.addAndGet(events.size()) == total) {
+                done.countDown();
+            }
+        })) {
+            long start = System.nanoTime();
+            Thread[] producers = new Thread[PRODUCERS];
+            for (int p = 0; p < PRODUCERS; p++) {
+                producers[p] = Thread.ofPlatform().start(() -> {
+                    for (int sent = 0; sent < EVENTS_PER_PRODUCER; sent += PUBLISH_BATCH) {
+                        ring.publish(batch);
+                    }
+                });
+            }
+            assertThat(done.await(5, TimeUnit.MINUTES)).isTrue();
+            long elapsed = System.nanoTime() - start;
+            for (Thread producer : producers) {
+                producer.join();
+            }
+            return total * 1_000_000_000.0 / elapsed;
+        }
+    }
+
+    private static double micros(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.round(percentile * sorted.length))] / 1000.0;
+    }
+}
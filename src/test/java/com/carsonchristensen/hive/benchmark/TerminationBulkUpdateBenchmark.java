@@ -0,0 +1,160 @@
+package com.carsonchristensen.hive.benchmark;
+
+import com.carsonchristensen.hive.model.AppAccess;
+import com.carsonchristensen.hive.model.Device;
+import com.carsonchristensen.hive.model.DeviceType;
+import com.carsonchristensen.hive.model.Employee;
+import com.carsonchristensen.hive.model.EmployeeStatus;
+import com.carsonchristensen.hive.repository.AppAccessRepository;
+import com.carsonchristensen.hive.repository.DeviceRepository;
+import com.carsonchristensen.hive.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the old load + saveAll termination path against the set-based
+ * UPDATE path at 10/100/1000 rows per employee, on embedded H2.
+ *
+ * Run with: ./mvnw test -Dtest=TerminationBulkUpdateBenchmark -Dhive.benchmark=true
+ */
+@EnabledIfSystemProperty(named = "hive.benchmark", matches = "true")
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+class TerminationBulkUpdateBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 20;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DeviceRepository deviceRepository;
+
+    @Autowired
+    private AppAccessRepository appAccessRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1000})
+    void lockDevices(int rows) {
+        Long employeeId = seed(rows);
+
+        Result old = measure(() -> {
+            List<Device> devices = deviceRepository.findByEmployeeId(employeeId);
+            devices.forEach(device -> device.setIsLocked(true));
+            deviceRepository.saveAll(devices);
+            entityManager.flush();
+            return devices.size();
+        }, "update devices set is_locked = false");
+
+        Result bulk = measure(() -> deviceRepository.lockAllByEmployeeId(employeeId),
+                "update devices set is_locked = false");
+
+        report("lockDevicesForEmployee", rows, old, bulk);
+        assertThat(bulk.rowsAffected()).isEqualTo(rows);
+        assertThat(bulk.statements()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1000})
+    void revokeApps(int rows) {
+        Long employeeId = seed(rows);
+
+        Result old = measure(() -> {
+            List<AppAccess> appAccesses = appAccessRepository.findByEmployeeId(employeeId);
+            appAccesses.forEach(appAccess -> appAccess.setStatus("REVOKED"));
+            appAccessRepository.saveAll(appAccesses);
+            entityManager.flush();
+            return appAccesses.size();
+        }, "update app_accesses set status = 'ACTIVE'");
+
+        Result bulk = measure(() -> appAccessRepository.revokeAllByEmployeeId(employeeId),
+                "update app_accesses set status = 'ACTIVE'");
+
+        report("revokeAllForEmployee", rows, old, bulk);
+        assertThat(bulk.rowsAffected()).isEqualTo(rows);
+        assertThat(bulk.statements()).isEqualTo(1);
+    }
+
+    private Long seed(int rows) {
+        Employee employee = employeeRepository.save(Employee.builder()
+                .email("bench-" + rows + "@company.com")
+                .fullName("Bench " + rows)
+                .status(EmployeeStatus.ACTIVE)
+                .build());
+
+        List<Device> devices = new ArrayList<>(rows);
+        List<AppAccess> appAccesses = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            devices.add(Device.builder()
+                    .serialNumber("SN-" + rows + "-" + i)
+                    .type(DeviceType.LAPTOP)
+                    .isLocked(false)
+                    .employee(employee)
+                    .build());
+            appAccesses.add(AppAccess.builder()
+                    .appName("App-" + i)
+                    .status("ACTIVE")
+                    .role("Member")
+                    .employee(employee)
+                    .build());
+        }
+        deviceRepository.saveAll(devices);
+        appAccessRepository.saveAll(appAccesses);
+        entityManager.flush();
+        entityManager.clear();
+        return employee.getId();
+    }
+
+    private Result measure(Supplier<Integer> path, String resetSql) {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        long totalNanos = 0;
+        long statements = 0;
+        int rowsAffected = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            entityManager.createNativeQuery(resetSql).executeUpdate();
+            entityManager.clear();
+            statistics.clear();
+
+            long start = System.nanoTime();
+            rowsAffected = path.get();
+            long elapsed = System.nanoTime() - start;
+
+            if (round >= WARMUP_ROUNDS) {
+                totalNanos += elapsed;
+                statements = statistics.getPrepareStatementCount();
+            }
+        }
+        return new Result(totalNanos / MEASURED_ROUNDS, statements, rowsAffected);
+    }
+
+    private void report(String operation, int rows, Result old, Result bulk) {
+        System.out.printf("%-24s rows=%5d | load+saveAll: %8.3f ms, %5d statements | bulk update: %8.3f ms, %5d statements%n",
+                operation, rows,
+                old.avgNanos() / 1_000_000.0, old.statements(),
+                bulk.avgNanos() / 1_000_000.0, bulk.statements());
+    }
+
+    private record Result(long avgNanos, long statements, int rowsAffected) {}
+}
@@ -0,0 +1,217 @@
+package com.carsonchristensen.hive.benchmark;
+
+import com.carsonchristensen.hive.model.Employee;
+import com.carsonchristensen.hive.service.AppAccessService;
+import com.carsonchristensen.hive.service.DeviceService;
+import com.carsonchristensen.hive.service.EmployeeService;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replays an offboarding storm against the whole pipeline (terminate, outbox, relay, in-process
+ * transport, listener) on embedded H2: seeds employees with a spread of devices and grants through
+ * the services, terminates them at a fixed rate and polls until each one's devices are locked and
+ * grants revoked. Lag runs from the start of the terminate call to the poll that first sees every
+ * row done, so it is overstated by up to one poll interval.
+ *
+ * Calls are started on schedule whether or not earlier ones have returned, so a slow terminate
+ * does not hide the lag of the ones queued behind it. Percentile reports (HdrHistogram .hgrm,
+ * values in ms) go to target/storm.
+ *
+ * Run with: ./mvnw test -Dtest=TerminationStormBenchmark -Dhive.benchmark=true
+ *           [-Dhive.storm.employees=1000] [-Dhive.storm.rate=100] [-Dhive.storm.poll-interval-ms=5]
+ */
+@EnabledIfSystemProperty(named = "hive.benchmark", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:storm;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.docker.compose.enabled=false",
+        // The ring buffer stands in for the broker
+        "hive.events.transport=in-process",
+        "hive.listener.autoscale.enabled=false",
+        // The services log every call
+        "logging.level.com.carsonchristensen.hive=WARN"
+})
+class TerminationStormBenchmark {
+
+    private static final int EMPLOYEES = Integer.getInteger("hive.storm.employees", 1000);
+    private static final int RATE_PER_SECOND = Integer.getInteger("hive.storm.rate", 100);
+    private static final long POLL_INTERVAL_MS = Long.getLong("hive.storm.poll-interval-ms", 5);
+    private static final long TIMEOUT_MS = TimeUnit.SECONDS.toMillis(Long.getLong("hive.storm.timeout-s", 120));
+    private static final Path REPORT_DIR = Path.of("target", "storm");
+    // Employee IDs per IN list when polling
+    private static final int POLL_CHUNK = 500;
+
+    private static final List<String> APPS = List.of("Slack", "GitHub", "Jira", "Confluence", "Google Workspace",
+            "Zoom", "Figma", "Notion", "AWS", "Okta", "Salesforce", "1Password");
+
+    private static final String UNFINISHED = """
+            SELECT employee_id FROM devices WHERE is_locked = false AND employee_id IN (:ids)
+            UNION
+            SELECT employee_id FROM app_accesses WHERE status <> 'REVOKED' AND employee_id IN (:ids)
+            """;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DeviceService deviceService;
+
+    @Autowired
+    private AppAccessService appAccessService;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    // Employee ID -> System.nanoTime() at the start of its terminate call, until it is seen done
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+    // Microseconds; a minute covers anything short of a stuck pipeline
+    private final Histogram callLatency = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+    private final Histogram lag = new Histogram(TimeUnit.MINUTES.toMicros(10), 3);
+
+    @Test
+    void storm() throws Exception {
+        long seedStart = System.nanoTime();
+        List<Long> employeeIds = seed(new Random(42));
+        int rows = jdbcTemplate.getJdbcTemplate().queryForObject(
+                "SELECT (SELECT count(*) FROM devices) + (SELECT count(*) FROM app_accesses)", Integer.class);
+        System.out.printf("Storm: seeded %d employees with %d devices and grants in %d ms%n",
+                EMPLOYEES, rows, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seedStart));
+
+        AtomicInteger failures = new AtomicInteger();
+        Thread poller = Thread.ofPlatform().name("storm-poller").start(() -> poll(employeeIds.size()));
+
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / RATE_PER_SECOND;
+        long start = System.nanoTime();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < employeeIds.size(); i++) {
+                long scheduled = start + i * periodNanos;
+                LockSupport.parkNanos(scheduled - System.nanoTime());
+                Long employeeId = employeeIds.get(i);
+                callers.execute(() -> terminate(employeeId, failures));
+            }
+        }
+        long sent = System.nanoTime();
+
+        poller.join(TIMEOUT_MS);
+        poller.interrupt();
+        long finished = System.nanoTime();
+
+        report(start, sent, finished, failures.get());
+        assertThat(failures.get()).isZero();
+        assertThat(lag.getTotalCount()).as("terminations seen complete").isEqualTo(employeeIds.size());
+    }
+
+    private void terminate(Long employeeId, AtomicInteger failures) {
+        long callStart = System.nanoTime();
+        try {
+            employeeService.terminateEmployee(employeeId);
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            return;
+        }
+        callLatency.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - callStart));
+        pending.put(employeeId, callStart);
+    }
+
+    // Records each pending employee's lag once no unlocked device or active grant is left for it
+    private void poll(int expected) {
+        while (lag.getTotalCount() < expected && !Thread.currentThread().isInterrupted()) {
+            List<Long> candidates = new ArrayList<>(pending.keySet());
+            Set<Long> unfinished = new HashSet<>();
+            for (int from = 0; from < candidates.size(); from += POLL_CHUNK) {
+                List<Long> chunk = candidates.subList(from, Math.min(candidates.size(), from + POLL_CHUNK));
+                unfinished.addAll(jdbcTemplate.queryForList(UNFINISHED, Map.of("ids", chunk), Long.class));
+            }
+            long now = System.nanoTime();
+            for (Long employeeId : candidates) {
+                if (!unfinished.contains(employeeId)) {
+                    lag.recordValue(TimeUnit.NANOSECONDS.toMicros(now - pending.remove(employeeId)));
+                }
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(POLL_INTERVAL_MS));
+        }
+    }
+
+    // 1-3 devices (mostly one laptop) and 3-12 grants per employee
+    private List<Long> seed(Random random) {
+        List<Long> employeeIds = new ArrayList<>(EMPLOYEES);
+        for (int e = 0; e < EMPLOYEES; e++) {
+            Employee employee = employeeService.createEmployee(Employee.builder()
+                    .email("storm-" + e + "@hive.test")
+                    .fullName("Storm Employee " + e)
+                    .department("Dept " + e % 10)
+                    .build());
+            employeeIds.add(employee.getId());
+
+            double roll = random.nextDouble();
+            int devices = roll < 0.5 ? 1 : roll < 0.85 ? 2 : 3;
+            for (int d = 0; d < devices; d++) {
+                deviceService.assignDevice(employee.getId(), d == 0 ? "LAPTOP" : random.nextBoolean() ? "MOBILE" : "TABLET",
+                        "STORM-" + e + "-" + d);
+            }
+            List<String> apps = new ArrayList<>(APPS);
+            Collections.shuffle(apps, random);
+            for (String app : apps.subList(0, 3 + random.nextInt(10))) {
+                appAccessService.assignApp(employee.getId(), app, "member");
+            }
+        }
+        return employeeIds;
+    }
+
+    private void report(long start, long sent, long finished, int failures) throws IOException {
+        double sendSeconds = (sent - start) / 1e9;
+        double totalSeconds = (finished - start) / 1e9;
+        System.out.printf("Storm: %d terminations at a target %d/s | sent in %.1f s (%.0f/s) | all done in %.1f s (%.0f/s) | %d failed%n",
+                EMPLOYEES, RATE_PER_SECOND, sendSeconds, EMPLOYEES / sendSeconds,
+                totalSeconds, lag.getTotalCount() / totalSeconds, failures);
+        print("terminate call", callLatency);
+        print("lag to locked/revoked", lag);
+
+        Files.createDirectories(REPORT_DIR);
+        write(REPORT_DIR.resolve("terminate-call.hgrm"), callLatency);
+        write(REPORT_DIR.resolve("termination-lag.hgrm"), lag);
+        System.out.printf("Storm: percentile reports in %s%n", REPORT_DIR.toAbsolutePath());
+    }
+
+    private static void print(String label, Histogram histogram) {
+        System.out.printf("Storm: %-22s | p50 %7.1f ms | p99 %7.1f ms | p99.9 %7.1f ms | max %7.1f ms%n", label,
+                histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0, histogram.getMaxValue() / 1000.0);
+    }
+
+    private static void write(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.carsonchristensen.hive.controller;
+
+import com.carsonchristensen.hive.dto.EmployeeSummary;
+import com.carsonchristensen.hive.dto.EmployeeSummary.AppItem;
+import com.carsonchristensen.hive.dto.EmployeeSummary.DeviceItem;
+import com.carsonchristensen.hive.model.AppAccess;
+import com.carsonchristensen.hive.model.Device;
+import com.carsonchristensen.hive.model.DeviceType;
+import com.carsonchristensen.hive.model.Employee;
+import com.carsonchristensen.hive.model.EmployeeStatus;
+import com.carsonchristensen.hive.repository.AppAccessRepository;
+import com.carsonchristensen.hive.repository.DeviceRepository;
+import com.carsonchristensen.hive.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Through a real server, since gzip comes from the container's server.compression
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:export;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.docker.compose.enabled=false",
+        "hive.events.transport=in-process",
+        "management.health.rabbit.enabled=false",
+        "hive.listener.autoscale.enabled=false"
+})
+class ExportControllerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DeviceRepository deviceRepository;
+
+    @Autowired
+    private AppAccessRepository appAccessRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Employee ada;
+    private Employee grace;
+    private Employee alan;
+    private Device laptop;
+    private Device phone;
+    private AppAccess slack;
+    private AppAccess github;
+    private AppAccess okta;
+
+    @BeforeEach
+    void seed() {
+        appAccessRepository.deleteAllInBatch();
+        deviceRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+
+        ada = employee("ada@export.test", "Ada Lovelace", EmployeeStatus.TERMINATED, "Engineering");
+        grace = employee("grace@export.test", "Grace Hopper", EmployeeStatus.ACTIVE, null);
+        alan = employee("alan@export.test", "Alan Turing", EmployeeStatus.ONBOARDING, "Research");
+        // Saved interleaved, so row IDs don't follow the employee order
+        slack = grant(ada, "Slack", "admin", "REVOKED");
+        laptop = device(ada, "SN-LAPTOP", DeviceType.LAPTOP, true);
+        okta = grant(alan, "Okta", "member", "ACTIVE");
+        github = grant(ada, "GitHub", "member", "REVOKED");
+        phone = device(ada, "SN-PHONE", DeviceType.MOBILE, true);
+    }
+
+    @Test
+    void ndjsonHasOneSummaryPerEmployeeWithItsDevicesAndGrants() throws Exception {
+        HttpResponse<byte[]> response = get("/api/export", null);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                type -> assertThat(type).startsWith(NdjsonWriter.MEDIA_TYPE));
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+        List<EmployeeSummary> employees = new ArrayList<>();
+        for (String line : text(response.body()).split("\n")) {
+            employees.add(objectMapper.readValue(line, EmployeeSummary.class));
+        }
+        assertThat(employees).containsExactly(
+                new EmployeeSummary(ada.getId(), "Ada Lovelace", "ada@export.test", EmployeeStatus.TERMINATED,
+                        "Engineering",
+                        List.of(new DeviceItem(laptop.getId(), "SN-LAPTOP", DeviceType.LAPTOP, true),
+                                new DeviceItem(phone.getId(), "SN-PHONE", DeviceType.MOBILE, true)),
+                        List.of(new AppItem(slack.getId(), "Slack", "admin", "REVOKED"),
+                                new AppItem(github.getId(), "GitHub", "member", "REVOKED")),
+                        null),
+                new EmployeeSummary(grace.getId(), "Grace Hopper", "grace@export.test", EmployeeStatus.ACTIVE, null,
+                        List.of(), List.of(), null),
+                new EmployeeSummary(alan.getId(), "Alan Turing", "alan@export.test", EmployeeStatus.ONBOARDING,
+                        "Research", List.of(), List.of(new AppItem(okta.getId(), "Okta", "member", "ACTIVE")), null));
+    }
+
+    @Test
+    void csvHasOneLinePerDeviceOrGrantAndOneForEmployeesWithNeither() throws Exception {
+        HttpResponse<byte[]> response = get("/api/export?format=csv", null);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                type -> assertThat(type).startsWith("text/csv"));
+        assertThat(text(response.body()).lines().toList()).containsExactly(
+                "employeeId,email,fullName,employeeStatus,department,recordType,recordId,name,detail,recordStatus",
+                ada.getId() + ",ada@export.test,\"Ada Lovelace\",TERMINATED,Engineering,DEVICE," + laptop.getId()
+                        + ",SN-LAPTOP,LAPTOP,LOCKED",
+                ada.getId() + ",ada@export.test,\"Ada Lovelace\",TERMINATED,Engineering,DEVICE," + phone.getId()
+                        + ",SN-PHONE,MOBILE,LOCKED",
+                ada.getId() + ",ada@export.test,\"Ada Lovelace\",TERMINATED,Engineering,APP," + slack.getId()
+                        + ",Slack,admin,REVOKED",
+                ada.getId() + ",ada@export.test,\"Ada Lovelace\",TERMINATED,Engineering,APP," + github.getId()
+                        + ",GitHub,member,REVOKED",
+                grace.getId() + ",grace@export.test,\"Grace Hopper\",ACTIVE,,,,,,",
+                alan.getId() + ",alan@export.test,\"Alan Turing\",ONBOARDING,Research,APP," + okta.getId()
+                        + ",Okta,member,ACTIVE");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/export", "/api/export?format=csv"})
+    void gzippedWhenAcceptedAndIdenticalOnceGunzipped(String path) throws Exception {
+        HttpResponse<byte[]> plain = get(path, null);
+        HttpResponse<byte[]> gzipped = get(path, "br;q=1.0, gzip;q=0.8");
+
+        assertThat(gzipped.headers().firstValue("Content-Encoding")).contains("gzip");
+        assertThat(gzipped.headers().allValues("Vary")).anySatisfy(
+                vary -> assertThat(vary).containsIgnoringCase("accept-encoding"));
+        assertThat(gunzip(gzipped.body())).isEqualTo(plain.body());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip;q=0", "deflate, br", "identity"})
+    void notGzippedOtherwise(String acceptEncoding) throws Exception {
+        HttpResponse<byte[]> response = get("/api/export", acceptEncoding);
+
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(text(response.body())).startsWith("{");
+    }
+
+    @Test
+    void unknownFormatIsRejected() throws Exception {
+        assertThat(get("/api/export?format=xml", null).statusCode()).isEqualTo(400);
+    }
+
+    private HttpResponse<byte[]> get(String path, String acceptEncoding) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static String text(byte[] body) {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private Employee employee(String email, String fullName, EmployeeStatus status, String department) {
+        return employeeRepository.save(Employee.builder()
+                .email(email).fullName(fullName).status(status).department(department).build());
+    }
+
+    private Device device(Employee employee, String serialNumber, DeviceType type, boolean locked) {
+        return deviceRepository.save(Device.builder()
+                .employee(employee).serialNumber(serialNumber).type(type).isLocked(locked).build());
+    }
+
+    private AppAccess grant(Employee employee, String appName, String role, String status) {
+        return appAccessRepository.save(AppAccess.builder()
+                .employee(employee).appName(appName).role(role).status(status).build());
+    }
+}
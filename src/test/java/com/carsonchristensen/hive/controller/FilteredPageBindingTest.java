@@ -0,0 +1,110 @@
+package com.carsonchristensen.hive.controller;
+
+import com.carsonchristensen.hive.dto.AppAccessFilter;
+import com.carsonchristensen.hive.dto.DeviceFilter;
+import com.carsonchristensen.hive.dto.EmployeeFilter;
+import com.carsonchristensen.hive.model.DeviceType;
+import com.carsonchristensen.hive.model.EmployeeStatus;
+import com.carsonchristensen.hive.service.AppAccessService;
+import com.carsonchristensen.hive.service.DeviceService;
+import com.carsonchristensen.hive.service.EmployeeService;
+import com.carsonchristensen.hive.service.EmployeeSummaryService;
+import com.carsonchristensen.hive.service.EmployeeUpdateStreams;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// How the filtered keyset pages bind their query parameters; the filtering itself is FilterSpecificationsTest
+@WebMvcTest({EmployeeController.class, DeviceController.class, AppAccessController.class})
+@Import(NdjsonWriter.class)
+class FilteredPageBindingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    @MockBean
+    private EmployeeSummaryService employeeSummaryService;
+
+    @MockBean
+    private EmployeeUpdateStreams employeeUpdateStreams;
+
+    @MockBean
+    private DeviceService deviceService;
+
+    @MockBean
+    private AppAccessService appAccessService;
+
+    @Test
+    void employeeFilterBindsTheStatusEnumAndPassesStringsThrough() throws Exception {
+        mockMvc.perform(get("/api/employees")
+                        .param("after", "42").param("limit", "25")
+                        .param("status", "TERMINATED").param("department", " Sales ").param("name", "ad"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+
+        verify(employeeService).searchEmployees(new EmployeeFilter(EmployeeStatus.TERMINATED, " Sales ", "ad"), 42L, 25);
+    }
+
+    @Test
+    void missingFiltersBindAsNullAndTheCursorStartsAtZero() throws Exception {
+        mockMvc.perform(get("/api/employees").param("limit", "5000"))
+                .andExpect(status().isOk());
+
+        // limit is clamped to CursorPage.MAX_LIMIT
+        verify(employeeService).searchEmployees(new EmployeeFilter(null, null, null), 0L, CursorPage.MAX_LIMIT);
+    }
+
+    @Test
+    void deviceFilterBindsTypeAndIsLocked() throws Exception {
+        mockMvc.perform(get("/api/devices")
+                        .param("limit", "10").param("type", "LAPTOP").param("isLocked", "false"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/devices").param("limit", "10").param("isLocked", "true"))
+                .andExpect(status().isOk());
+
+        verify(deviceService).searchDevices(new DeviceFilter(DeviceType.LAPTOP, false), 0L, 10);
+        verify(deviceService).searchDevices(new DeviceFilter(null, true), 0L, 10);
+    }
+
+    @Test
+    void appAccessFilterPassesStringsThrough() throws Exception {
+        mockMvc.perform(get("/api/app-access")
+                        .param("after", "7").param("limit", "10")
+                        .param("appName", "Sla").param("status", "active").param("role", "admin"))
+                .andExpect(status().isOk());
+
+        verify(appAccessService).searchAppAccesses(new AppAccessFilter("Sla", "active", "admin"), 7L, 10);
+    }
+
+    @Test
+    void invalidEnumValuesAreRejectedWith400() throws Exception {
+        mockMvc.perform(get("/api/employees").param("limit", "10").param("status", "FIRED"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").exists());
+        mockMvc.perform(get("/api/devices").param("limit", "10").param("type", "DESKTOP"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.type").exists());
+        mockMvc.perform(get("/api/devices").param("limit", "10").param("isLocked", "maybe"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.isLocked").exists());
+
+        verifyNoInteractions(employeeService);
+        verify(deviceService, never()).searchDevices(any(), anyLong(), anyInt());
+    }
+}
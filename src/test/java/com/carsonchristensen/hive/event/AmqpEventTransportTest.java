@@ -0,0 +1,165 @@
+package com.carsonchristensen.hive.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.net.ConnectException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AmqpEventTransportTest {
+
+    private static final long CONFIRM_TIMEOUT_MS = 200;
+
+    private final ScriptedRabbitTemplate rabbitTemplate = new ScriptedRabbitTemplate();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void ackCompletesTheEventAndReleasesItsPermit() throws Exception {
+        AmqpEventTransport transport = transport(1, 3);
+
+        transport.publishAsync(event(1)).get(1, TimeUnit.SECONDS);
+        // With a window of one, this only gets a permit if the first event gave it back
+        transport.publishAsync(event(2)).get(1, TimeUnit.SECONDS);
+
+        assertThat(rabbitTemplate.sends.get()).isEqualTo(2);
+        assertThat(transport.inFlight()).isZero();
+        assertThat(count(AmqpEventTransport.CONFIRMED_COUNTER)).isEqualTo(2);
+        assertThat(count(AmqpEventTransport.NACKED_COUNTER)).isZero();
+    }
+
+    @Test
+    void nackIsRetried() throws Exception {
+        rabbitTemplate.script(Reply.NACK, Reply.ACK);
+        AmqpEventTransport transport = transport(4, 3);
+
+        transport.publishAsync(event(1)).get(2, TimeUnit.SECONDS);
+
+        assertThat(rabbitTemplate.sends.get()).isEqualTo(2);
+        assertThat(count(AmqpEventTransport.NACKED_COUNTER)).isEqualTo(1);
+        assertThat(count(AmqpEventTransport.RETRIED_COUNTER)).isEqualTo(1);
+        assertThat(count(AmqpEventTransport.CONFIRMED_COUNTER)).isEqualTo(1);
+    }
+
+    @Test
+    void failedSendIsRetried() throws Exception {
+        rabbitTemplate.script(Reply.THROW, Reply.ACK);
+        AmqpEventTransport transport = transport(4, 3);
+
+        transport.publishAsync(event(1)).get(2, TimeUnit.SECONDS);
+
+        assertThat(rabbitTemplate.sends.get()).isEqualTo(2);
+        assertThat(count(AmqpEventTransport.RETRIED_COUNTER)).isEqualTo(1);
+    }
+
+    @Test
+    void missingConfirmIsRetriedAfterTheTimeout() throws Exception {
+        rabbitTemplate.script(Reply.NONE, Reply.ACK);
+        AmqpEventTransport transport = transport(4, 3);
+
+        long start = System.nanoTime();
+        transport.publishAsync(event(1)).get(2, TimeUnit.SECONDS);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(CONFIRM_TIMEOUT_MS);
+        assertThat(rabbitTemplate.sends.get()).isEqualTo(2);
+        assertThat(count(AmqpEventTransport.NACKED_COUNTER)).isEqualTo(1);
+        assertThat(count(AmqpEventTransport.RETRIED_COUNTER)).isEqualTo(1);
+    }
+
+    @Test
+    void failsAfterMaxRetriesAndStillReleasesThePermit() throws Exception {
+        rabbitTemplate.script(Reply.NACK, Reply.NACK, Reply.NACK, Reply.ACK);
+        AmqpEventTransport transport = transport(1, 2);
+
+        CompletableFuture<Void> failed = transport.publishAsync(event(1));
+
+        // The first attempt plus maxRetries retries, then no more
+        assertThatThrownBy(() -> failed.get(2, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause().isInstanceOf(AmqpException.class)
+                .hasMessageContaining("after 3 attempts");
+        assertThat(rabbitTemplate.sends.get()).isEqualTo(3);
+        assertThat(count(AmqpEventTransport.NACKED_COUNTER)).isEqualTo(3);
+        assertThat(count(AmqpEventTransport.RETRIED_COUNTER)).isEqualTo(2);
+        assertThat(transport.inFlight()).isZero();
+
+        transport.publishAsync(event(2)).get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void fullWindowFailsThePublishOnceTheConfirmTimeoutPasses() throws Exception {
+        rabbitTemplate.script(Reply.NONE, Reply.NONE);
+        AmqpEventTransport transport = transport(1, 1);
+        CompletableFuture<Void> stuck = transport.publishAsync(event(1));
+
+        // The only permit is held by the unconfirmed event
+        CompletableFuture<Void> rejected = transport.publishAsync(event(2));
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::join).hasMessageContaining("Publish window full");
+        assertThat(rabbitTemplate.sends.get()).isLessThanOrEqualTo(2);
+
+        // Both attempts time out; the permit comes back with the failure
+        assertThatThrownBy(() -> stuck.get(2, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        transport.publishAsync(event(3)).get(1, TimeUnit.SECONDS);
+        assertThat(transport.inFlight()).isZero();
+    }
+
+    private AmqpEventTransport transport(int maxInFlight, int maxRetries) {
+        EventTracing eventTracing = new EventTracing(Tracer.NOOP,
+                new StaticListableBeanFactory().getBeanProvider(Propagator.class));
+        return new AmqpEventTransport(rabbitTemplate, eventTracing, meterRegistry, maxInFlight, CONFIRM_TIMEOUT_MS,
+                maxRetries);
+    }
+
+    private double count(String counter) {
+        return meterRegistry.get(counter).counter().count();
+    }
+
+    private static EmployeeEvent event(long employeeId) {
+        return new EmployeeEvent(employeeId, "TERMINATED", employeeId, Instant.now());
+    }
+
+    private enum Reply { ACK, NACK, NONE, THROW }
+
+    // Answers each send with the next scripted reply (ACK once the script runs out), like the broker's confirm callback would
+    private static class ScriptedRabbitTemplate extends RabbitTemplate {
+
+        private final Queue<Reply> replies = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger sends = new AtomicInteger();
+
+        void script(Reply... script) {
+            replies.addAll(List.of(script));
+        }
+
+        @Override
+        public void convertAndSend(String exchange, String routingKey, Object message,
+                                   MessagePostProcessor messagePostProcessor, CorrelationData correlationData) {
+            sends.incrementAndGet();
+            Reply reply = replies.poll();
+            switch (reply == null ? Reply.ACK : reply) {
+                case ACK -> correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+                case NACK -> correlationData.getFuture().complete(new CorrelationData.Confirm(false, "queue full"));
+                case NONE -> { }
+                case THROW -> throw new AmqpConnectException(new ConnectException("connection refused"));
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.carsonchristensen.hive.event;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmployeeEventMessageConverterTest {
+
+    private static final String TRACEPARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+    // Nanosecond precision survives the binary layout
+    private static final Instant TIMESTAMP = Instant.parse("2026-03-14T09:26:53.589793238Z");
+
+    private final EmployeeEventMessageConverter binary =
+            new EmployeeEventMessageConverter(new Jackson2JsonMessageConverter(), true);
+    private final EmployeeEventMessageConverter json =
+            new EmployeeEventMessageConverter(new Jackson2JsonMessageConverter(), false);
+
+    @Test
+    void binaryRoundTripKeepsEveryField() {
+        EmployeeEvent event = new EmployeeEvent(123L, "TERMINATED", 456L, TIMESTAMP);
+
+        Message message = binary.toMessage(event, new MessageProperties());
+
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo(EmployeeEventMessageConverter.CONTENT_TYPE);
+        assertThat(message.getBody()).hasSize(EmployeeEventMessageConverter.LENGTH);
+        assertThat(binary.fromMessage(message)).isEqualTo(event);
+    }
+
+    @Test
+    void eventWithoutAnIdRoundTripsAsNull() {
+        EmployeeEvent event = new EmployeeEvent("TERMINATED", 456L, TIMESTAMP);
+
+        assertThat(binary.fromMessage(binary.toMessage(event, new MessageProperties()))).isEqualTo(event);
+    }
+
+    @Test
+    void decodesTheVersion1Layout() {
+        // version 1 | type code | employeeId | epoch nanos: 18 bytes, no event ID
+        byte[] body = ByteBuffer.allocate(18)
+                .put((byte) 1)
+                .put((byte) 0)
+                .putLong(456L)
+                .putLong(TIMESTAMP.getEpochSecond() * 1_000_000_000L + TIMESTAMP.getNano())
+                .array();
+
+        assertThat(binary.fromMessage(binaryMessage(body)))
+                .isEqualTo(new EmployeeEvent(null, "TERMINATED", 456L, TIMESTAMP));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 17, 19, 25, 27})
+    void rejectsWrongLengths(int length) {
+        byte[] body = new byte[length];
+        if (length > 0) {
+            body[0] = 2;
+        }
+
+        assertThatThrownBy(() -> binary.fromMessage(binaryMessage(body)))
+                .isInstanceOf(MessageConversionException.class)
+                .hasMessageContaining("length " + length);
+    }
+
+    @Test
+    void rejectsAVersionThatDoesNotMatchTheLength() {
+        byte[] current = EmployeeEventMessageConverter.encode(new EmployeeEvent(1L, "TERMINATED", 2L, TIMESTAMP));
+        byte[] v1Sized = Arrays.copyOf(current, 18);
+        byte[] unknownVersion = current.clone();
+        unknownVersion[0] = 3;
+
+        assertThatThrownBy(() -> binary.fromMessage(binaryMessage(v1Sized)))
+                .isInstanceOf(MessageConversionException.class)
+                .hasMessageContaining("version 2");
+        assertThatThrownBy(() -> binary.fromMessage(binaryMessage(unknownVersion)))
+                .isInstanceOf(MessageConversionException.class)
+                .hasMessageContaining("version 3");
+    }
+
+    @ParameterizedTest
+    @ValueSource(bytes = {1, 42, -1})
+    void rejectsUnknownTypeCodes(byte code) {
+        byte[] body = EmployeeEventMessageConverter.encode(new EmployeeEvent(1L, "TERMINATED", 2L, TIMESTAMP));
+        body[1] = code;
+
+        assertThatThrownBy(() -> binary.fromMessage(binaryMessage(body)))
+                .isInstanceOf(MessageConversionException.class)
+                .hasMessageContaining("type code: " + code);
+    }
+
+    @Test
+    void jsonOutputWhenBinaryIsSwitchedOff() {
+        EmployeeEvent event = new EmployeeEvent(123L, "TERMINATED", 456L, TIMESTAMP);
+
+        Message message = json.toMessage(event, new MessageProperties());
+
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+        // Either converter reads it, whatever its own output setting
+        assertThat(binary.fromMessage(message)).isEqualTo(event);
+        assertThat(json.fromMessage(message)).isEqualTo(event);
+    }
+
+    @Test
+    void typesWithoutACodeAndOtherPayloadsGoThroughJson() {
+        EmployeeEvent hired = new EmployeeEvent(1L, "HIRED", 2L, TIMESTAMP);
+        EmployeeUpdate update = new EmployeeUpdate(List.of(1L, 2L), "TERMINATED", TIMESTAMP);
+
+        Message hiredMessage = binary.toMessage(hired, new MessageProperties());
+        Message updateMessage = binary.toMessage(update, new MessageProperties());
+
+        assertThat(hiredMessage.getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+        assertThat(updateMessage.getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+        assertThat(binary.fromMessage(hiredMessage)).isEqualTo(hired);
+        assertThat(binary.fromMessage(updateMessage)).isEqualTo(update);
+    }
+
+    @Test
+    void restoresTheTraceparentHeaderOnEitherFormat() {
+        EmployeeEvent event = new EmployeeEvent(123L, "TERMINATED", 456L, TIMESTAMP);
+
+        for (EmployeeEventMessageConverter converter : List.of(binary, json)) {
+            Message message = converter.toMessage(event, new MessageProperties());
+            assertThat(converter.fromMessage(message)).extracting(e -> ((EmployeeEvent) e).traceParent()).isNull();
+
+            message.getMessageProperties().setHeader(EventTracing.TRACEPARENT_HEADER, TRACEPARENT);
+            assertThat(converter.fromMessage(message)).isEqualTo(event.withTraceParent(TRACEPARENT));
+        }
+    }
+
+    @Test
+    void traceparentHeaderLeavesOtherPayloadsAlone() {
+        EmployeeUpdate update = new EmployeeUpdate(List.of(1L), "HIRED", TIMESTAMP);
+        Message message = binary.toMessage(update, new MessageProperties());
+        message.getMessageProperties().setHeader(EventTracing.TRACEPARENT_HEADER, TRACEPARENT);
+
+        assertThat(binary.fromMessage(message)).isEqualTo(update);
+    }
+
+    private static Message binaryMessage(byte[] body) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(EmployeeEventMessageConverter.CONTENT_TYPE);
+        return new Message(body, properties);
+    }
+}
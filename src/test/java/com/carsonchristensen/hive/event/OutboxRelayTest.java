@@ -0,0 +1,135 @@
+package com.carsonchristensen.hive.event;
+
+import com.carsonchristensen.hive.model.OutboxEvent;
+import com.carsonchristensen.hive.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// On real Postgres, since its row locking (FOR UPDATE SKIP LOCKED) is what these tests rely on
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.docker.compose.enabled=false",
+        "hive.events.transport=in-process",
+        "management.health.rabbit.enabled=false",
+        "hive.listener.autoscale.enabled=false",
+        // The tests drive the relays themselves; the scheduled one only runs at startup
+        "hive.outbox.poll-interval-ms=3600000"
+})
+@Testcontainers
+class OutboxRelayTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private EventPublisher eventPublisher;
+
+    @BeforeEach
+    void emptyOutbox() {
+        outboxEventRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void failedOrUnconfirmedPublishLeavesTheRowsForTheNextPoll() {
+        List<OutboxEvent> rows = insert(3);
+        OutboxRelay relay = new OutboxRelay(outboxEventRepository, eventPublisher, transactionManager, 500);
+
+        // publishEmployeeEvents joins the confirms, so a nack or a confirm timeout surfaces like this
+        doThrow(new CompletionException(new AmqpException("Broker nacked hr.employee.terminated")))
+                .doThrow(new CompletionException(new AmqpException("No confirm within 5000ms")))
+                .doNothing()
+                .when(eventPublisher).publishEmployeeEvents(anyList());
+
+        relay.drain();
+        assertThat(outboxEventRepository.count()).isEqualTo(3);
+        relay.drain();
+        assertThat(outboxEventRepository.count()).isEqualTo(3);
+
+        relay.drain();
+        assertThat(outboxEventRepository.count()).isZero();
+        // The same events every time, outbox IDs included
+        verify(eventPublisher, times(3)).publishEmployeeEvents(rows.stream().map(OutboxEvent::toEvent).toList());
+    }
+
+    @Test
+    void concurrentRelaysNeverPublishTheSameRow() throws Exception {
+        List<Long> ids = insert(1_000).stream().map(OutboxEvent::getId).toList();
+        Queue<Long> published = new ConcurrentLinkedQueue<>();
+        CountDownLatch bothLocked = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            List<EmployeeEvent> events = invocation.getArgument(0);
+            events.forEach(event -> published.add(event.eventId()));
+            // Hold the first batches until both relays have locked one, so they really overlap
+            bothLocked.countDown();
+            bothLocked.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(eventPublisher).publishEmployeeEvents(anyList());
+
+        try (ExecutorService relays = Executors.newFixedThreadPool(2)) {
+            List<Future<?>> results = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                OutboxRelay relay = new OutboxRelay(outboxEventRepository, eventPublisher, transactionManager, 50);
+                results.add(relays.submit(() -> {
+                    // A relay that finds only locked rows gets an empty batch, so loop until the table is empty
+                    while (outboxEventRepository.count() > 0) {
+                        relay.relayBatch();
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        }
+
+        assertThat(bothLocked.getCount()).isZero();
+        assertThat(published).hasSize(ids.size()).doesNotHaveDuplicates();
+        assertThat(published).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    private List<OutboxEvent> insert(int count) {
+        List<OutboxEvent> rows = IntStream.range(0, count)
+                .mapToObj(i -> OutboxEvent.builder()
+                        .eventType("TERMINATED")
+                        .employeeId((long) i)
+                        .occurredAt(Instant.EPOCH)
+                        .build())
+                .toList();
+        return outboxEventRepository.saveAll(rows);
+    }
+}
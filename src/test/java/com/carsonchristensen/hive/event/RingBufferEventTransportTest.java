@@ -0,0 +1,230 @@
+package com.carsonchristensen.hive.event;
+
+import com.carsonchristensen.hive.event.RingBufferEventTransport.WaitStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RingBufferEventTransportTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int EVENTS_PER_PRODUCER = 5_000;
+    // Producer p publishes eventIds p * STRIDE + 0, 1, 2, ...
+    private static final long STRIDE = 1_000_000;
+    private static final int CLOSE_RACE_ROUNDS = 500;
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    void concurrentProducersLoseAndDuplicateNothingAndKeepEachProducersOrder(WaitStrategy strategy) throws Exception {
+        List<EmployeeEvent> handled = new CopyOnWriteArrayList<>();
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        // A small ring, so producers wrap it many times and keep hitting a full ring
+        RingBufferEventTransport ring = new RingBufferEventTransport(64, 16, strategy, events -> {
+            batchSizes.add(events.size());
+            handled.addAll(events);
+        });
+
+        try (ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS)) {
+            List<Future<?>> results = new ArrayList<>();
+            for (int p = 0; p < PRODUCERS; p++) {
+                long base = p * STRIDE;
+                results.add(producers.submit(() -> {
+                    Random random = new Random(base);
+                    for (long sequence = 0; sequence < EVENTS_PER_PRODUCER; ) {
+                        int size = (int) Math.min(EVENTS_PER_PRODUCER - sequence, 1 + random.nextInt(5));
+                        ring.publish(events(base + sequence, size));
+                        sequence += size;
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        }
+        ring.close();
+
+        assertThat(handled).hasSize(PRODUCERS * EVENTS_PER_PRODUCER);
+        assertThat(handled.stream().map(EmployeeEvent::eventId).distinct().count()).isEqualTo(handled.size());
+        Map<Long, Long> lastByProducer = new HashMap<>();
+        for (EmployeeEvent event : handled) {
+            long producer = event.eventId() / STRIDE;
+            Long previous = lastByProducer.put(producer, event.eventId());
+            assertThat(event.eventId()).as("order within producer %d", producer)
+                    .isEqualTo(previous == null ? producer * STRIDE : previous + 1);
+        }
+        assertThat(batchSizes).allSatisfy(size -> assertThat(size).isBetween(1, 16));
+        assertThat(ring.depth()).isZero();
+    }
+
+    @Test
+    void fullRingBlocksProducersUntilTheConsumerFreesSlots() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<EmployeeEvent> handled = new CopyOnWriteArrayList<>();
+        RingBufferEventTransport ring = new RingBufferEventTransport(4, 4, WaitStrategy.BLOCKING, events -> {
+            await(release);
+            handled.addAll(events);
+        });
+
+        // The consumer takes the first event and stalls in the handler; its slot stays claimed until it returns
+        ring.publish(events(0, 1));
+        ring.publish(events(1, 3));
+        assertThat(ring.depth()).isEqualTo(4);
+
+        // 16 more events wrap the 4-slot ring four times
+        CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> ring.publish(events(4, 16)));
+        assertThatThrownBy(() -> producer.get(300, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+        assertThat(ring.depth()).isEqualTo(4);
+
+        release.countDown();
+        producer.get(5, TimeUnit.SECONDS);
+        ring.close();
+
+        assertThat(handled).extracting(EmployeeEvent::eventId).containsExactly(LongStream.range(0, 20).boxed().toArray(Long[]::new));
+    }
+
+    @Test
+    void closeDrainsTheRingAndRejectsNewEvents() {
+        List<EmployeeEvent> handled = new CopyOnWriteArrayList<>();
+        RingBufferEventTransport ring = new RingBufferEventTransport(256, 1, WaitStrategy.SLEEPING, events -> {
+            sleep(1);
+            handled.addAll(events);
+        });
+        ring.publish(events(0, 200));
+
+        ring.close();
+
+        assertThat(handled).hasSize(200);
+        assertThat(ring.depth()).isZero();
+        assertThatThrownBy(() -> ring.publish(events(200, 1)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("closed");
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = WaitStrategy.class, names = {"BLOCKING", "SLEEPING"})
+    void everyPublishThatReturnsDuringCloseIsHandled(WaitStrategy strategy) throws Exception {
+        for (int round = 0; round < CLOSE_RACE_ROUNDS; round++) {
+            Set<Long> handled = ConcurrentHashMap.newKeySet();
+            Set<Long> accepted = ConcurrentHashMap.newKeySet();
+            RingBufferEventTransport ring = new RingBufferEventTransport(8, 4, strategy,
+                    events -> events.forEach(event -> handled.add(event.eventId())));
+            CountDownLatch started = new CountDownLatch(PRODUCERS);
+
+            try (ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS)) {
+                for (int p = 0; p < PRODUCERS; p++) {
+                    long base = p * STRIDE;
+                    producers.submit(() -> {
+                        started.countDown();
+                        for (long id = base; ; id++) {
+                            try {
+                                ring.publish(events(id, 1));
+                            } catch (IllegalStateException closed) {
+                                return;
+                            }
+                            // Returned normally, so the outbox relay would now delete the row
+                            accepted.add(id);
+                        }
+                    });
+                }
+                started.await();
+                sleep(round % 3);
+                ring.close();
+            }
+
+            assertThat(handled).as("round %d", round).containsExactlyInAnyOrderElementsOf(accepted);
+        }
+    }
+
+    @Test
+    void failingBatchIsRetriedUntilTheHandlerAcceptsIt() throws Exception {
+        AtomicBoolean failing = new AtomicBoolean(true);
+        AtomicInteger attempts = new AtomicInteger();
+        Set<List<Long>> attemptedBatches = ConcurrentHashMap.newKeySet();
+        List<EmployeeEvent> handled = new CopyOnWriteArrayList<>();
+        RingBufferEventTransport ring = new RingBufferEventTransport(4, 4, WaitStrategy.BLOCKING, events -> {
+            attempts.incrementAndGet();
+            attemptedBatches.add(events.stream().map(EmployeeEvent::eventId).toList());
+            if (failing.get()) {
+                throw new IllegalStateException("database down");
+            }
+            handled.addAll(events);
+        });
+
+        ring.publish(events(0, 4));
+        // The failing batch holds its slots, so the ring stays full and the next publish waits
+        CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> ring.publish(events(4, 4)));
+        assertThatThrownBy(() -> producer.get(500, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+        assertThat(attempts.get()).isGreaterThan(1);
+        assertThat(attemptedBatches).containsExactly(List.of(0L, 1L, 2L, 3L));
+        assertThat(handled).isEmpty();
+
+        failing.set(false);
+        producer.get(5, TimeUnit.SECONDS);
+        ring.close();
+
+        assertThat(handled).extracting(EmployeeEvent::eventId).containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L);
+    }
+
+    @Test
+    void closeGivesUpOnABatchThatKeepsFailing() {
+        RingBufferEventTransport ring = new RingBufferEventTransport(4, 4, WaitStrategy.BLOCKING, events -> {
+            throw new IllegalStateException("database down");
+        });
+        ring.publish(events(0, 2));
+        sleep(300);
+
+        long start = System.nanoTime();
+        ring.close();
+
+        // Well inside close()'s 10s join: the backoff is cut short and the batch dropped
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5_000);
+        assertThat(ring.depth()).isZero();
+    }
+
+    private static List<EmployeeEvent> events(long firstId, int count) {
+        List<EmployeeEvent> events = new ArrayList<>(count);
+        for (long id = firstId; id < firstId + count; id++) {
+            events.add(new EmployeeEvent(id, "TERMINATED", id, Instant.EPOCH));
+        }
+        return events;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
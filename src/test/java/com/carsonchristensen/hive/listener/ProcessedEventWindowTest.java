@@ -0,0 +1,116 @@
+package com.carsonchristensen.hive.listener;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProcessedEventWindowTest {
+
+    // Long enough that only capacity rotates generations in these tests
+    private static final long NO_WINDOW_MS = 3_600_000;
+
+    @Test
+    void remembersIdsAcrossOneRotation() {
+        ProcessedEventWindow window = new ProcessedEventWindow(4, NO_WINDOW_MS);
+        LongStream.rangeClosed(1, 4).forEach(window::add);
+
+        // The current generation is full, so the fifth ID first rotates 1..4 into the previous one
+        window.add(5);
+
+        assertThat(LongStream.rangeClosed(1, 5)).allMatch(window::contains);
+        assertThat(window.contains(6)).isFalse();
+        assertThat(window.size()).isEqualTo(5);
+    }
+
+    @Test
+    void evictsByCapacityAfterTwoRotations() {
+        ProcessedEventWindow window = new ProcessedEventWindow(4, NO_WINDOW_MS);
+        LongStream.rangeClosed(1, 9).forEach(window::add);
+
+        // 1..4 were the previous generation when 9 rotated again, and were cleared
+        assertThat(LongStream.rangeClosed(1, 4)).noneMatch(window::contains);
+        assertThat(LongStream.rangeClosed(5, 9)).allMatch(window::contains);
+        assertThat(window.size()).isEqualTo(5);
+    }
+
+    @Test
+    void evictsByWindowEvenWhenNotFull() throws InterruptedException {
+        ProcessedEventWindow window = new ProcessedEventWindow(1_000, 20);
+        window.add(1);
+        Thread.sleep(30);
+        window.add(2);
+        assertThat(window.contains(1)).as("kept for one more window").isTrue();
+
+        Thread.sleep(30);
+        window.add(3);
+
+        assertThat(window.contains(1)).isFalse();
+        assertThat(window.contains(2)).isTrue();
+        assertThat(window.contains(3)).isTrue();
+    }
+
+    @Test
+    void addingAnIdAgainDoesNotUseCapacity() {
+        ProcessedEventWindow window = new ProcessedEventWindow(2, NO_WINDOW_MS);
+        window.add(1);
+        window.add(1);
+        window.add(1);
+        window.add(2);
+
+        assertThat(window.size()).isEqualTo(2);
+        // Still the first generation: adding 3 rotates, and 1 and 2 survive it
+        window.add(3);
+        assertThat(LongStream.rangeClosed(1, 3)).allMatch(window::contains);
+    }
+
+    @Test
+    void zeroIsNeverRemembered() {
+        // 0 marks an empty slot, so it can't be stored; outbox IDs start at 1
+        ProcessedEventWindow window = new ProcessedEventWindow(4, NO_WINDOW_MS);
+        window.add(0);
+
+        assertThat(window.contains(0)).isFalse();
+        assertThat(window.size()).isZero();
+    }
+
+    @Test
+    void collidingIdsAreFoundAlongTheirProbeChainInBothGenerations() {
+        ProcessedEventWindow window = new ProcessedEventWindow(4, NO_WINDOW_MS);
+        // Capacity 4 -> 8 slots; these IDs all hash to the same one
+        List<Long> colliding = idsInSlot(slotOf(1, 7), 7, 6);
+        colliding.subList(0, 4).forEach(window::add);
+
+        // Rotation moves the chain to the previous generation and starts a new one in the cleared table
+        window.add(colliding.get(4));
+        window.add(colliding.get(5));
+
+        assertThat(colliding).allMatch(window::contains);
+        assertThat(window.contains(idsInSlot(slotOf(1, 7), 7, 7).get(6))).isFalse();
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThatThrownBy(() -> new ProcessedEventWindow(0, NO_WINDOW_MS))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // Same Fibonacci hash as ProcessedEventWindow.indexOf
+    private static int slotOf(long eventId, int mask) {
+        return (int) ((eventId * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    private static List<Long> idsInSlot(int slot, int mask, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        for (long id = 1; ids.size() < count; id++) {
+            if (slotOf(id, mask) == slot) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+}
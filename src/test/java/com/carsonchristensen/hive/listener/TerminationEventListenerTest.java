@@ -0,0 +1,100 @@
+package com.carsonchristensen.hive.listener;
+
+import com.carsonchristensen.hive.event.EmployeeEvent;
+import com.carsonchristensen.hive.event.EventTracing;
+import com.carsonchristensen.hive.service.AppAccessService;
+import com.carsonchristensen.hive.service.DeviceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class TerminationEventListenerTest {
+
+    private final DeviceService deviceService = mock(DeviceService.class);
+    private final AppAccessService appAccessService = mock(AppAccessService.class);
+    private final TerminationRetryPublisher retryPublisher = mock(TerminationRetryPublisher.class);
+    private final ExecutorService effectExecutor = Executors.newFixedThreadPool(2);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TerminationEventListener listener = new TerminationEventListener(deviceService, appAccessService,
+            effectExecutor, new EventTracing(Tracer.NOOP, new StaticListableBeanFactory().getBeanProvider(Propagator.class)),
+            retryPublisher, meterRegistry, 1_000, 600_000);
+
+    @AfterEach
+    void shutDown() {
+        effectExecutor.shutdownNow();
+    }
+
+    @Test
+    void redeliveredEventIsSkippedBeforeAnyDatabaseWork() {
+        listener.handleEmployeeEvents(List.of(terminated(1, 10)));
+        verify(deviceService).lockDevicesForEmployees(Set.of(10L));
+        verify(appAccessService).revokeAllForEmployees(Set.of(10L));
+
+        listener.handleEmployeeEvents(List.of(terminated(1, 10)));
+
+        verifyNoMoreInteractions(deviceService, appAccessService);
+        assertThat(duplicates()).isEqualTo(1);
+    }
+
+    @Test
+    void onlyTheFreshEventsOfAMixedBatchAreProcessed() {
+        listener.handleEmployeeEvents(List.of(terminated(1, 10)));
+
+        listener.handleEmployeeEvents(List.of(terminated(1, 10), terminated(2, 20)));
+
+        verify(deviceService).lockDevicesForEmployees(Set.of(20L));
+        verify(appAccessService).revokeAllForEmployees(Set.of(20L));
+        assertThat(duplicates()).isEqualTo(1);
+    }
+
+    @Test
+    void eventsWithoutAnIdAreNeverTreatedAsDuplicates() {
+        EmployeeEvent direct = new EmployeeEvent("TERMINATED", 10L, Instant.now());
+
+        listener.handleEmployeeEvents(List.of(direct));
+        listener.handleEmployeeEvents(List.of(direct));
+
+        verify(deviceService, times(2)).lockDevicesForEmployees(Set.of(10L));
+        assertThat(duplicates()).isZero();
+    }
+
+    @Test
+    void batchThatFailsIsProcessedAgainOnRedelivery() {
+        // In-process transport: a failed effect fails the whole batch
+        when(deviceService.lockDevicesForEmployees(anySet())).thenThrow(new IllegalStateException("database down"))
+                .thenReturn(1);
+        assertThatThrownBy(() -> listener.handleEmployeeEvents(List.of(terminated(1, 10))))
+                .isInstanceOf(IllegalStateException.class);
+
+        listener.handleEmployeeEvents(List.of(terminated(1, 10)));
+
+        verify(deviceService, times(2)).lockDevicesForEmployees(Set.of(10L));
+        assertThat(duplicates()).isZero();
+    }
+
+    private double duplicates() {
+        return meterRegistry.get("hive.listener.events.duplicates").counter().count();
+    }
+
+    private static EmployeeEvent terminated(long eventId, long employeeId) {
+        return new EmployeeEvent(eventId, "TERMINATED", employeeId, Instant.now());
+    }
+}
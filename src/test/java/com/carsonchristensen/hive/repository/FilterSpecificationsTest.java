@@ -0,0 +1,165 @@
+package com.carsonchristensen.hive.repository;
+
+import com.carsonchristensen.hive.dto.AppAccessFilter;
+import com.carsonchristensen.hive.dto.AppAccessView;
+import com.carsonchristensen.hive.dto.DeviceFilter;
+import com.carsonchristensen.hive.dto.DeviceView;
+import com.carsonchristensen.hive.dto.EmployeeFilter;
+import com.carsonchristensen.hive.model.AppAccess;
+import com.carsonchristensen.hive.model.Device;
+import com.carsonchristensen.hive.model.DeviceType;
+import com.carsonchristensen.hive.model.Employee;
+import com.carsonchristensen.hive.model.EmployeeStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+class FilterSpecificationsTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DeviceRepository deviceRepository;
+
+    @Autowired
+    private AppAccessRepository appAccessRepository;
+
+    private Employee ada;
+    private Employee adaAdmin;
+    private Employee adaXAdmin;
+    private Employee adam;
+    private Employee hundredPercent;
+    private Employee hundredClub;
+    private Employee backslash;
+
+    @BeforeEach
+    void seed() {
+        // Saved in this order, so IDs ascend down the list
+        ada = employee("Ada Lovelace", EmployeeStatus.ACTIVE, "Engineering");
+        adaAdmin = employee("ada_admin", EmployeeStatus.ACTIVE, "Engineering");
+        adaXAdmin = employee("adaXadmin", EmployeeStatus.ACTIVE, null);
+        adam = employee("Adam Smith", EmployeeStatus.TERMINATED, "Engineering");
+        hundredPercent = employee("100% Club", EmployeeStatus.ACTIVE, "Sales");
+        hundredClub = employee("1000 Club", EmployeeStatus.ACTIVE, "Sales");
+        backslash = employee("back\\slash", EmployeeStatus.ONBOARDING, "Sales");
+        employee("backslash", EmployeeStatus.ONBOARDING, "Sales");
+    }
+
+    @Test
+    void employeeFiltersCombineWithTheKeyset() {
+        // department is trimmed, name is a case-insensitive prefix
+        EmployeeFilter filter = new EmployeeFilter(EmployeeStatus.ACTIVE, " Engineering ", "ADA");
+
+        assertThat(employees(filter, null)).containsExactly(ada.getId(), adaAdmin.getId());
+        assertThat(employees(filter, ada.getId())).containsExactly(adaAdmin.getId());
+        assertThat(employees(filter, adaAdmin.getId())).isEmpty();
+        assertThat(employees(new EmployeeFilter(EmployeeStatus.TERMINATED, null, null), null))
+                .containsExactly(adam.getId());
+    }
+
+    @Test
+    void blankFiltersMatchEverything() {
+        List<Long> all = employeeRepository.findAll(Sort.by("id")).stream().map(Employee::getId).toList();
+
+        assertThat(employees(new EmployeeFilter(null, null, null), null)).isEqualTo(all);
+        assertThat(employees(new EmployeeFilter(null, "  ", " "), null)).isEqualTo(all);
+        assertThat(employees(new EmployeeFilter(null, "", ""), adam.getId()))
+                .isEqualTo(all.subList(all.indexOf(adam.getId()) + 1, all.size()));
+    }
+
+    @Test
+    void namePrefixMatchesLikeWildcardsLiterally() {
+        assertThat(employees(new EmployeeFilter(null, null, "ada_"), null)).containsExactly(adaAdmin.getId());
+        assertThat(employees(new EmployeeFilter(null, null, "100%"), null)).containsExactly(hundredPercent.getId());
+        assertThat(employees(new EmployeeFilter(null, null, "100"), null))
+                .containsExactly(hundredPercent.getId(), hundredClub.getId());
+        assertThat(employees(new EmployeeFilter(null, null, "back\\"), null)).containsExactly(backslash.getId());
+        assertThat(employees(new EmployeeFilter(null, null, "ada"), null))
+                .containsExactly(ada.getId(), adaAdmin.getId(), adaXAdmin.getId(), adam.getId());
+    }
+
+    @Test
+    void deviceFiltersCombineWithTheKeyset() {
+        Device unlockedLaptop = device("SN-1", DeviceType.LAPTOP, false);
+        device("SN-2", DeviceType.LAPTOP, true);
+        Device unlockedPhone = device("SN-3", DeviceType.MOBILE, false);
+        Device secondUnlockedLaptop = device("SN-4", DeviceType.LAPTOP, false);
+
+        assertThat(devices(new DeviceFilter(DeviceType.LAPTOP, false), null))
+                .containsExactly(unlockedLaptop.getId(), secondUnlockedLaptop.getId());
+        assertThat(devices(new DeviceFilter(DeviceType.LAPTOP, false), unlockedLaptop.getId()))
+                .containsExactly(secondUnlockedLaptop.getId());
+        assertThat(devices(new DeviceFilter(null, false), unlockedLaptop.getId()))
+                .containsExactly(unlockedPhone.getId(), secondUnlockedLaptop.getId());
+        assertThat(devices(new DeviceFilter(null, null), null)).hasSize(4);
+    }
+
+    @Test
+    void appAccessFiltersCombineWithTheKeyset() {
+        AppAccess slackAdmin = grant("Slack", "ACTIVE", "admin");
+        AppAccess slackMember = grant("slack-huddles", "ACTIVE", "member");
+        grant("Slack", "REVOKED", "admin");
+        AppAccess secondSlackAdmin = grant("SLACK", "ACTIVE", "admin");
+        grant("GitHub", "ACTIVE", "admin");
+
+        AppAccessFilter activeSlackAdmins = new AppAccessFilter("slack", "ACTIVE", "admin");
+        assertThat(appAccesses(activeSlackAdmins, null)).containsExactly(slackAdmin.getId(), secondSlackAdmin.getId());
+        assertThat(appAccesses(activeSlackAdmins, slackAdmin.getId())).containsExactly(secondSlackAdmin.getId());
+        assertThat(appAccesses(new AppAccessFilter("Slack", "active", null), null))
+                .containsExactly(slackAdmin.getId(), slackMember.getId(), secondSlackAdmin.getId());
+    }
+
+    @Test
+    void statusIsCaseInsensitiveButRoleIsNot() {
+        AppAccess admin = grant("Okta", "ACTIVE", "admin");
+
+        assertThat(appAccesses(new AppAccessFilter(null, " active ", null), null)).containsExactly(admin.getId());
+        assertThat(appAccesses(new AppAccessFilter(null, "Active", " admin "), null)).containsExactly(admin.getId());
+        assertThat(appAccesses(new AppAccessFilter(null, null, "Admin"), null)).isEmpty();
+        assertThat(appAccesses(new AppAccessFilter(" ", " ", " "), null)).containsExactly(admin.getId());
+    }
+
+    private List<Long> employees(EmployeeFilter filter, Long afterId) {
+        // Same query as EmployeeService.searchEmployees
+        return employeeRepository.findBy(FilterSpecifications.employees(filter, afterId),
+                        query -> query.sortBy(Sort.by("id")).limit(100).all())
+                .stream().map(Employee::getId).toList();
+    }
+
+    private List<Long> devices(DeviceFilter filter, Long afterId) {
+        return deviceRepository.findViews(FilterSpecifications.devices(filter, afterId), 100)
+                .stream().map(DeviceView::id).toList();
+    }
+
+    private List<Long> appAccesses(AppAccessFilter filter, Long afterId) {
+        return appAccessRepository.findViews(FilterSpecifications.appAccesses(filter, afterId), 100)
+                .stream().map(AppAccessView::id).toList();
+    }
+
+    private Employee employee(String fullName, EmployeeStatus status, String department) {
+        return employeeRepository.saveAndFlush(Employee.builder()
+                .email("employee" + employeeRepository.count() + "@filters.test")
+                .fullName(fullName).status(status).department(department).build());
+    }
+
+    private Device device(String serialNumber, DeviceType type, boolean locked) {
+        return deviceRepository.saveAndFlush(Device.builder()
+                .serialNumber(serialNumber).type(type).isLocked(locked).employee(ada).build());
+    }
+
+    private AppAccess grant(String appName, String status, String role) {
+        return appAccessRepository.saveAndFlush(AppAccess.builder()
+                .appName(appName).status(status).role(role).employee(ada).build());
+    }
+}
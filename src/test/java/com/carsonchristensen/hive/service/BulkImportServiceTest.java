@@ -0,0 +1,169 @@
+package com.carsonchristensen.hive.service;
+
+import com.carsonchristensen.hive.model.Employee;
+import com.carsonchristensen.hive.service.BulkImportService.Format;
+import com.carsonchristensen.hive.service.ImportReport.RowError;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// On real Postgres, since the import relies on its INSERT ... ON CONFLICT DO NOTHING row counts.
+// Each test uses its own email domain instead of cleaning up.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.docker.compose.enabled=false",
+        "hive.events.transport=in-process",
+        "management.health.rabbit.enabled=false",
+        "hive.listener.autoscale.enabled=false",
+        "spring.jpa.show-sql=false"
+})
+@Testcontainers
+class BulkImportServiceTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void duplicateEmailsFailTheirOwnRowOnly() {
+        employeeService.createEmployee(employee("taken@dup.test"));
+
+        ImportReport report = bulkImportService.importEmployees(input("""
+                email,fullName,department
+                new1@dup.test,New One,Engineering
+                taken@dup.test,Already Here,Sales
+                new2@dup.test,New Two,
+                new1@dup.test,Same File Twice,Engineering
+                not-an-email,Bad Email,Sales
+                """), Format.CSV);
+
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(report.failed()).isEqualTo(3);
+        assertThat(report.errors()).extracting(RowError::row).containsExactly(2L, 4L, 5L);
+        assertThat(report.errors().get(0).message()).isEqualTo("Email already exists");
+        assertThat(report.errors().get(1).message()).isEqualTo("Email already exists");
+        assertThat(report.errors().get(2).message()).startsWith("email:");
+        assertThat(countEmployees("dup.test")).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT department FROM employees WHERE email = 'new2@dup.test'",
+                String.class)).isNull();
+    }
+
+    @Test
+    void failedChunkMarksEveryRowInItFailed() {
+        employeeService.createEmployee(employee("grants@chunk.test"));
+        // 600 rows: the first chunk of 500 commits, the second one holds a name too long for its column
+        StringBuilder ndjson = new StringBuilder();
+        for (int row = 1; row <= 600; row++) {
+            String appName = row == 550 ? "x".repeat(300) : "App " + row;
+            ndjson.append("{\"employeeEmail\":\"grants@chunk.test\",\"appName\":\"").append(appName)
+                    .append("\",\"role\":\"member\"}\n");
+        }
+
+        ImportReport report = bulkImportService.importAppGrants(input(ndjson.toString()), Format.NDJSON);
+
+        assertThat(report.imported()).isEqualTo(500);
+        assertThat(report.failed()).isEqualTo(100);
+        assertThat(report.errors()).extracting(RowError::row)
+                .containsExactlyElementsOf(IntStream.rangeClosed(501, 600).mapToObj(Long::valueOf).toList());
+        assertThat(report.errors()).allSatisfy(error ->
+                assertThat(error.message()).startsWith("Not imported, its batch failed"));
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM app_accesses a JOIN employees e ON e.id = a.employee_id
+                WHERE e.email = 'grants@chunk.test'""", Integer.class)).isEqualTo(500);
+    }
+
+    @Test
+    void malformedNdjsonStopsTheImportAtItsRow() {
+        ImportReport report = bulkImportService.importEmployees(input("""
+                {"email":"a@ndjson.test","fullName":"A"}
+                {"email":"b@ndjson.test","fullName":"B"}
+                {"email":"c@ndjson.test","fullName":
+                {"email":"d@ndjson.test","fullName":"D"}
+                """), Format.NDJSON);
+
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(report.errors()).singleElement().satisfies(error -> {
+            assertThat(error.row()).isEqualTo(3);
+            assertThat(error.message()).startsWith("Unreadable row, import stopped here");
+        });
+        assertThat(countEmployees("ndjson.test")).isEqualTo(2);
+    }
+
+    @Test
+    void malformedCsvStopsTheImportAtItsRow() {
+        ImportReport report = bulkImportService.importEmployees(input("""
+                email,fullName,department
+                a@csv.test,A,Sales
+                b@csv.test,"B, unterminated,Sales
+                c@csv.test,C,Sales
+                """), Format.CSV);
+
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.errors()).singleElement().satisfies(error -> {
+            assertThat(error.row()).isEqualTo(2);
+            assertThat(error.message()).startsWith("Unreadable row, import stopped here");
+        });
+        assertThat(countEmployees("csv.test")).isEqualTo(1);
+    }
+
+    @Test
+    void importedIdsDoNotCollideWithConcurrentCreates() {
+        String rows = IntStream.range(0, 2_000)
+                .mapToObj(i -> "{\"email\":\"import" + i + "@ids.test\",\"fullName\":\"Imported " + i + "\"}")
+                .collect(Collectors.joining("\n"));
+
+        // Both draw from the employees sequence while the other is running
+        CompletableFuture<ImportReport> importing = CompletableFuture.supplyAsync(
+                () -> bulkImportService.importEmployees(input(rows), Format.NDJSON));
+        List<Long> createdIds = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            createdIds.add(employeeService.createEmployee(employee("create" + i + "@ids.test")).getId());
+        }
+        ImportReport report = importing.join();
+
+        // A taken ID would fail a whole chunk (ON CONFLICT only covers email) or a create
+        assertThat(report.imported()).isEqualTo(2_000);
+        assertThat(report.errors()).isEmpty();
+        assertThat(countEmployees("ids.test")).isEqualTo(2_200);
+        List<Long> importedIds = jdbcTemplate.queryForList(
+                "SELECT id FROM employees WHERE email LIKE 'import%@ids.test'", Long.class);
+        assertThat(importedIds).hasSize(2_000).doesNotContainAnyElementsOf(createdIds);
+    }
+
+    private int countEmployees(String domain) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM employees WHERE email LIKE ?", Integer.class,
+                "%@" + domain);
+    }
+
+    private static Employee employee(String email) {
+        return Employee.builder().email(email).fullName("Existing " + email).department("Engineering").build();
+    }
+
+    private static InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
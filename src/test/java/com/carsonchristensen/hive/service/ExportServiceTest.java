@@ -0,0 +1,95 @@
+package com.carsonchristensen.hive.service;
+
+import com.carsonchristensen.hive.dto.EmployeeSummary;
+import com.carsonchristensen.hive.dto.EmployeeSummary.AppItem;
+import com.carsonchristensen.hive.dto.EmployeeSummary.DeviceItem;
+import com.carsonchristensen.hive.model.DeviceType;
+import com.carsonchristensen.hive.model.EmployeeStatus;
+import org.h2.tools.SimpleResultSet;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The assembler on its own, fed the UNION ALL rows in orders Postgres is free to return them in;
+// the query and the HTTP output are covered by ExportControllerTest
+class ExportServiceTest {
+
+    @Test
+    void rowsOfOneEmployeeAreAssembledInWhateverOrderTheyArrive() throws SQLException {
+        SimpleResultSet rows = exportRows();
+        rows.addRow(1L, "A", 12L, "Slack", "admin", "ACTIVE", null, null);
+        rows.addRow(1L, "D", 21L, "SN-21", "MOBILE", null, null, true);
+        rows.addRow(1L, "E", 1L, "Ada Lovelace", "ada@hive.test", "TERMINATED", "Engineering", null);
+        rows.addRow(1L, "A", 11L, "GitHub", "member", "REVOKED", null, null);
+        rows.addRow(1L, "D", 20L, "SN-20", "LAPTOP", null, null, false);
+        // Employee row in the middle this time
+        rows.addRow(2L, "D", 30L, "SN-30", "TABLET", null, null, false);
+        rows.addRow(2L, "E", 2L, "Grace Hopper", "grace@hive.test", "ACTIVE", null, null);
+        rows.addRow(2L, "A", 31L, "Okta", "member", "ACTIVE", null, null);
+
+        assertThat(assemble(rows)).containsExactly(
+                new EmployeeSummary(1L, "Ada Lovelace", "ada@hive.test", EmployeeStatus.TERMINATED, "Engineering",
+                        List.of(new DeviceItem(20L, "SN-20", DeviceType.LAPTOP, false),
+                                new DeviceItem(21L, "SN-21", DeviceType.MOBILE, true)),
+                        List.of(new AppItem(11L, "GitHub", "member", "REVOKED"),
+                                new AppItem(12L, "Slack", "admin", "ACTIVE")),
+                        null),
+                new EmployeeSummary(2L, "Grace Hopper", "grace@hive.test", EmployeeStatus.ACTIVE, null,
+                        List.of(new DeviceItem(30L, "SN-30", DeviceType.TABLET, false)),
+                        List.of(new AppItem(31L, "Okta", "member", "ACTIVE")),
+                        null));
+    }
+
+    @Test
+    void employeesWithoutDevicesOrGrantsGetEmptyLists() throws SQLException {
+        SimpleResultSet rows = exportRows();
+        rows.addRow(1L, "E", 1L, "Ada Lovelace", "ada@hive.test", "ACTIVE", null, null);
+        rows.addRow(2L, "E", 2L, "Grace Hopper", "grace@hive.test", "ONBOARDING", "Sales", null);
+        rows.addRow(2L, "A", 5L, "Okta", "member", "ACTIVE", null, null);
+        rows.addRow(3L, "E", 3L, "Alan Turing", "alan@hive.test", "ACTIVE", null, null);
+
+        List<EmployeeSummary> employees = assemble(rows);
+
+        assertThat(employees).extracting(EmployeeSummary::id).containsExactly(1L, 2L, 3L);
+        assertThat(employees.get(0).devices()).isEmpty();
+        assertThat(employees.get(0).apps()).isEmpty();
+        assertThat(employees.get(1).apps()).hasSize(1);
+        // Nothing from employee 2 carries over into the last one
+        assertThat(employees.get(2).devices()).isEmpty();
+        assertThat(employees.get(2).apps()).isEmpty();
+    }
+
+    @Test
+    void noRowsEmitNothing() throws SQLException {
+        assertThat(assemble(exportRows())).isEmpty();
+    }
+
+    private static List<EmployeeSummary> assemble(SimpleResultSet rows) throws SQLException {
+        List<EmployeeSummary> employees = new ArrayList<>();
+        ExportService.EmployeeAssembler assembler = new ExportService.EmployeeAssembler(employees::add);
+        while (rows.next()) {
+            assembler.accept(rows);
+        }
+        assembler.flush();
+        return employees;
+    }
+
+    // Same columns as ExportService.EXPORT_ROWS
+    private static SimpleResultSet exportRows() {
+        SimpleResultSet rows = new SimpleResultSet();
+        rows.addColumn("employee_id", Types.BIGINT, 19, 0);
+        rows.addColumn("kind", Types.VARCHAR, 1, 0);
+        rows.addColumn("id", Types.BIGINT, 19, 0);
+        rows.addColumn("name", Types.VARCHAR, 255, 0);
+        rows.addColumn("detail", Types.VARCHAR, 255, 0);
+        rows.addColumn("status", Types.VARCHAR, 32, 0);
+        rows.addColumn("department", Types.VARCHAR, 255, 0);
+        rows.addColumn("locked", Types.BOOLEAN, 1, 0);
+        return rows;
+    }
+}